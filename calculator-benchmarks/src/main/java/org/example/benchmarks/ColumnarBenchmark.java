@@ -0,0 +1,70 @@
+package org.example.benchmarks;
+
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.evaluation.columnar.ColumnarEvaluator;
+import org.example.core.lexer.TableLexer;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * One formula over many rows: the vectorized columnar evaluator against a scalar
+ * row-by-row loop over the same program.
+ */
+@State(Scope.Benchmark)
+public class ColumnarBenchmark extends BenchmarkDefaults {
+
+    @Param({"8", "64"})
+    public int operands;
+
+    @Param({"1024", "65536"})
+    public int rows;
+
+    private final ColumnarEvaluator columnar = new ColumnarEvaluator();
+    private RpnProgram program;
+    private PreparedProgram scalar;
+    private double[][] columns;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        String input = ExpressionCorpus.expression(operands, 0, true);
+        program = new DefaultRpnParser().toProgram(new TableLexer().scan(input));
+        scalar = new RpnEvaluationAlgorithm().prepare(program);
+
+        Random random = new Random(rows);
+        columns = new double[program.variableCount()][rows];
+        for (double[] column : columns) {
+            for (int i = 0; i < rows; i++) {
+                column[i] = random.nextDouble() * 10 - 5;
+            }
+        }
+        out = new double[rows];
+    }
+
+    @Benchmark
+    public double[] columnar() {
+        columnar.evaluate(program, columns, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] scalar() {
+        double[] bindings = new double[columns.length];
+        double[] stack = new double[program.maxStackDepth()];
+        for (int row = 0; row < rows; row++) {
+            for (int slot = 0; slot < bindings.length; slot++) {
+                bindings[slot] = columns[slot][row];
+            }
+            out[row] = scalar.evaluate(bindings, stack);
+        }
+        return out;
+    }
+}
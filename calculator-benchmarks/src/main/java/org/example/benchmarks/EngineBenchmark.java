@@ -0,0 +1,49 @@
+package org.example.benchmarks;
+
+import org.example.core.cache.ExpressionCache;
+import org.example.core.evaluation.CalculatorEngine;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.lexer.TableLexer;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.InfixExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * End-to-end {@code CalculatorEngine.evaluate}: lex, validate, parse, optimize and
+ * evaluate. With {@code cacheCapacity = 0} every call compiles from scratch; otherwise
+ * the repeated input is served from the compiled-expression cache.
+ */
+@State(Scope.Benchmark)
+public class EngineBenchmark extends BenchmarkDefaults {
+
+    @Param({"8", "64", "512"})
+    public int operands;
+
+    @Param({"0", "4", "16"})
+    public int depth;
+
+    @Param({"0", "4096"})
+    public int cacheCapacity;
+
+    private CalculatorEngine engine;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        engine = new CalculatorEngine(
+                new InfixExpressionParser(new TableLexer()),
+                new DefaultRpnParser(),
+                new RpnEvaluationAlgorithm(),
+                new ExpressionCache(cacheCapacity));
+        input = ExpressionCorpus.expression(operands, depth);
+    }
+
+    @Benchmark
+    public double evaluate() {
+        return engine.evaluate(input);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.benchmarks;
+
+import org.example.core.evaluation.EvaluationAlgorithm;
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.evaluation.bytecode.BytecodeEvaluationAlgorithm;
+import org.example.core.evaluation.methodhandle.MethodHandleEvaluationAlgorithm;
+import org.example.core.lexer.TableLexer;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Evaluation of an already parsed program on each backend. Programs are taken
+ * straight from the parser, without the optimizer, so they are not folded away.
+ */
+@State(Scope.Benchmark)
+public class EvaluatorBenchmark extends BenchmarkDefaults {
+
+    @Param({"8", "64", "512"})
+    public int operands;
+
+    @Param({"0", "4", "16"})
+    public int depth;
+
+    @Param({"rpn", "method-handle", "bytecode"})
+    public String backend;
+
+    private final double[] bindings = {1.25, -0.5};
+    private RpnProgram program;
+    private PreparedProgram prepared;
+    private double[] stack;
+
+    @Setup
+    public void setUp() {
+        String input = ExpressionCorpus.expression(operands, depth, true);
+        program = new DefaultRpnParser().toProgram(new TableLexer().scan(input));
+        EvaluationAlgorithm algorithm = switch (backend) {
+            case "rpn" -> new RpnEvaluationAlgorithm();
+            case "method-handle" -> new MethodHandleEvaluationAlgorithm();
+            case "bytecode" -> new BytecodeEvaluationAlgorithm();
+            default -> throw new IllegalArgumentException("Unknown backend: " + backend);
+        };
+        prepared = algorithm.prepare(program);
+        stack = new double[program.maxStackDepth()];
+    }
+
+    @Benchmark
+    public double prepared() {
+        return prepared.evaluate(bindings, stack);
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.benchmarks;
+
+import java.util.Random;
+
+/**
+ * ExpressionCorpus — deterministic, well-formed benchmark inputs.
+ * An expression has exactly {@code operands} leaves and parentheses nested
+ * {@code depth} levels deep along its leftmost group. Leaves are decimal literals
+ * with an occasional {@code sin}/{@code cos} call; there are no unary signs, which
+ * keeps every lexer on its common path. With variables enabled, some leaves are
+ * {@code x} or {@code y} instead.
+ */
+final class ExpressionCorpus {
+
+    private static final String[] OPERATORS = {"+", "-", "*", "/"};
+
+    private final Random random;
+    private final boolean variables;
+
+    private ExpressionCorpus(long seed, boolean variables) {
+        this.random = new Random(seed);
+        this.variables = variables;
+    }
+
+    static String expression(int operands, int depth) {
+        return expression(operands, depth, false);
+    }
+
+    static String expression(int operands, int depth, boolean variables) {
+        return new ExpressionCorpus(31L * operands + depth, variables).build(operands, depth);
+    }
+
+    private String build(int operands, int depth) {
+        if (depth == 0) {
+            return chain(operands);
+        }
+        int rest = operands / 2;
+        String group = "(" + build(operands - rest, depth - 1) + ")";
+        return rest == 0 ? group : group + operator() + chain(rest);
+    }
+
+    private String chain(int operands) {
+        StringBuilder out = new StringBuilder(leaf());
+        for (int i = 1; i < operands; i++) {
+            out.append(operator()).append(leaf());
+        }
+        return out.toString();
+    }
+
+    private String leaf() {
+        String number = (1 + random.nextInt(99)) + "." + random.nextInt(100);
+        return switch (random.nextInt(8)) {
+            case 0 -> "sin(" + number + ")";
+            case 1 -> "cos(" + number + ")";
+            case 2, 3 -> variables ? (random.nextBoolean() ? "x" : "y") : number;
+            default -> number;
+        };
+    }
+
+    private String operator() {
+        return OPERATORS[random.nextInt(OPERATORS.length)];
+    }
+}
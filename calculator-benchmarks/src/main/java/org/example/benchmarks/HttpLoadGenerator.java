@@ -0,0 +1,104 @@
+package org.example.benchmarks;
+
+import org.example.core.metrics.LatencyHistogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HttpLoadGenerator — closed-loop load against {@code POST /evaluate}: every virtual
+ * thread keeps one request in flight, so {@code --connections} is the concurrency.
+ * Reports throughput and latency percentiles of the measurement phase.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.example.benchmarks.HttpLoadGenerator \
+ *     --url http://127.0.0.1:8080/evaluate --connections 10000 --warmup 10 --duration 30
+ * </pre>
+ * Ten thousand connections need a matching open-file limit ({@code ulimit -n}) on
+ * both the client and the server side.
+ */
+public final class HttpLoadGenerator {
+
+    private HttpLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String url = "http://127.0.0.1:8080/evaluate";
+        int connections = 1000;
+        int warmupSeconds = 5;
+        int durationSeconds = 20;
+        int expressions = 1024;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url" -> url = args[i + 1];
+                case "--connections" -> connections = Integer.parseInt(args[i + 1]);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(args[i + 1]);
+                case "--duration" -> durationSeconds = Integer.parseInt(args[i + 1]);
+                case "--expressions" -> expressions = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        List<HttpRequest> requests = new ArrayList<>(expressions);
+        URI target = URI.create(url);
+        for (int i = 0; i < expressions; i++) {
+            requests.add(HttpRequest.newBuilder(target)
+                    .POST(HttpRequest.BodyPublishers.ofString(ExpressionCorpus.expression(8 + i % 8, 3)))
+                    .build());
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder failures = new LongAdder();
+        long measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long stopAt = measureFrom + durationSeconds * 1_000_000_000L;
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < connections; c++) {
+                int offset = c;
+                workers.submit(() -> {
+                    int n = offset;
+                    long now;
+                    while ((now = System.nanoTime()) < stopAt) {
+                        HttpRequest request = requests.get(n++ % requests.size());
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            if (now >= measureFrom) {
+                                latency.record(System.nanoTime() - now);
+                                if (response.statusCode() != 200) {
+                                    failures.increment();
+                                }
+                            }
+                        } catch (Exception e) {
+                            if (now >= measureFrom) {
+                                failures.increment();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        LatencyHistogram.Snapshot s = latency.snapshot();
+        System.out.printf(Locale.ROOT, "connections=%d requests=%d failures=%d throughput=%.0f req/s%n",
+                connections, s.count(), failures.sum(), s.count() / (double) durationSeconds);
+        System.out.printf(Locale.ROOT, "latency mean=%.2fms p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                s.mean() / 1e6, s.percentile(50) / 1e6, s.percentile(90) / 1e6, s.percentile(99) / 1e6,
+                s.percentile(99.9) / 1e6, s.max() / 1e6);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.benchmarks;
+
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.evaluation.TokenIterator;
+import org.example.core.lexer.TableLexer;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayDeque;
+
+/**
+ * {@code RpnEvaluationAlgorithm.execute}: the boxed {@code Deque<Double>} path
+ * against the primitive {@code double[]} path, on constant-only programs.
+ */
+@State(Scope.Benchmark)
+public class InterpreterBenchmark extends BenchmarkDefaults {
+
+    private static final double[] NO_BINDINGS = new double[0];
+
+    @Param({"8", "64", "512"})
+    public int operands;
+
+    @Param({"0", "4", "16"})
+    public int depth;
+
+    private final RpnEvaluationAlgorithm interpreter = new RpnEvaluationAlgorithm();
+    private RpnProgram program;
+    private double[] stack;
+
+    @Setup
+    public void setUp() {
+        String input = ExpressionCorpus.expression(operands, depth);
+        program = new DefaultRpnParser().toProgram(new TableLexer().scan(input));
+        stack = new double[program.maxStackDepth()];
+    }
+
+    @Benchmark
+    public double boxed() {
+        return interpreter.execute(new TokenIterator(program.tokens()), new ArrayDeque<>());
+    }
+
+    @Benchmark
+    public double primitive() {
+        return interpreter.execute(program, NO_BINDINGS, stack);
+    }
+}
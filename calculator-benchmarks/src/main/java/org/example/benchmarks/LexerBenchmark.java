@@ -0,0 +1,55 @@
+package org.example.benchmarks;
+
+import org.example.core.lexer.DefaultLexer;
+import org.example.core.lexer.Lexer;
+import org.example.core.lexer.LexicalReader;
+import org.example.core.lexer.RegexLexer;
+import org.example.core.lexer.TableLexer;
+import org.example.core.token.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Tokenization throughput of each lexer on the same input.
+ */
+@State(Scope.Benchmark)
+public class LexerBenchmark extends BenchmarkDefaults {
+
+    @Param({"regex", "default", "table"})
+    public String lexer;
+
+    @Param({"8", "64", "512"})
+    public int operands;
+
+    @Param({"0", "4", "16"})
+    public int depth;
+
+    private Lexer instance;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        instance = switch (lexer) {
+            case "regex" -> new RegexLexer();
+            case "default" -> new DefaultLexer(new LexicalReader());
+            case "table" -> new TableLexer();
+            default -> throw new IllegalArgumentException("Unknown lexer: " + lexer);
+        };
+        input = ExpressionCorpus.expression(operands, depth);
+    }
+
+    @Benchmark
+    public List<Token> scan() {
+        return instance.scan(input);
+    }
+
+    @Benchmark
+    public List<String> tokenize() {
+        return instance.tokenize(input);
+    }
+}
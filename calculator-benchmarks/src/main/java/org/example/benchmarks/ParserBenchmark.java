@@ -0,0 +1,47 @@
+package org.example.benchmarks;
+
+import org.example.core.lexer.TableLexer;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnParser;
+import org.example.core.token.Token;
+import org.example.core.token.Tokens;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Shunting-yard conversion, on typed tokens and through the string adapter.
+ */
+@State(Scope.Benchmark)
+public class ParserBenchmark extends BenchmarkDefaults {
+
+    @Param({"8", "64", "512"})
+    public int operands;
+
+    @Param({"0", "4", "16"})
+    public int depth;
+
+    private final RpnParser parser = new DefaultRpnParser();
+    private List<Token> tokens;
+    private List<String> texts;
+
+    @Setup
+    public void setUp() {
+        tokens = new TableLexer().scan(ExpressionCorpus.expression(operands, depth));
+        texts = Tokens.texts(tokens);
+    }
+
+    @Benchmark
+    public List<Token> toRpnTokens() {
+        return parser.toRpnTokens(tokens);
+    }
+
+    @Benchmark
+    public List<String> toRpn() {
+        return parser.toRpn(texts);
+    }
+}
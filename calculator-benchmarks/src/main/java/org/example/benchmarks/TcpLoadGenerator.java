@@ -0,0 +1,112 @@
+package org.example.benchmarks;
+
+import org.example.core.metrics.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TcpLoadGenerator — pipelined load against the line-protocol server. Every connection
+ * sends {@code --pipeline} expressions in one write, then reads that many responses;
+ * each response's latency is measured from the write of its window.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.example.benchmarks.TcpLoadGenerator \
+ *     --host 127.0.0.1 --port 9090 --connections 64 --pipeline 32 --warmup 5 --duration 20
+ * </pre>
+ */
+public final class TcpLoadGenerator {
+
+    private TcpLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = "127.0.0.1";
+        int port = 9090;
+        int connections = 64;
+        int pipeline = 32;
+        int warmupSeconds = 5;
+        int durationSeconds = 20;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--host" -> host = args[i + 1];
+                case "--port" -> port = Integer.parseInt(args[i + 1]);
+                case "--connections" -> connections = Integer.parseInt(args[i + 1]);
+                case "--pipeline" -> pipeline = Integer.parseInt(args[i + 1]);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(args[i + 1]);
+                case "--duration" -> durationSeconds = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        byte[][] windows = new byte[64][];
+        for (int w = 0; w < windows.length; w++) {
+            StringBuilder window = new StringBuilder();
+            for (int i = 0; i < pipeline; i++) {
+                window.append(ExpressionCorpus.expression(4 + (w + i) % 12, 3)).append('\n');
+            }
+            windows[w] = window.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder failures = new LongAdder();
+        long measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long stopAt = measureFrom + durationSeconds * 1_000_000_000L;
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        int depth = pipeline;
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < connections; c++) {
+                int offset = c;
+                clients.submit(() -> {
+                    try (Socket socket = new Socket()) {
+                        socket.setTcpNoDelay(true);
+                        socket.connect(address);
+                        OutputStream out = socket.getOutputStream();
+                        BufferedReader in = new BufferedReader(
+                                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8), 1 << 16);
+
+                        int n = offset;
+                        long sent;
+                        while ((sent = System.nanoTime()) < stopAt) {
+                            out.write(windows[n++ % windows.length]);
+                            out.flush();
+                            for (int i = 0; i < depth; i++) {
+                                String line = in.readLine();
+                                if (line == null) {
+                                    throw new IOException("Connection closed by server");
+                                }
+                                if (sent >= measureFrom) {
+                                    latency.record(System.nanoTime() - sent);
+                                    if (line.startsWith("Invalid") || line.startsWith("[")) {
+                                        failures.increment();
+                                    }
+                                }
+                            }
+                        }
+                    } catch (IOException e) {
+                        failures.increment();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        LatencyHistogram.Snapshot s = latency.snapshot();
+        System.out.printf(Locale.ROOT, "connections=%d pipeline=%d responses=%d failures=%d throughput=%.0f req/s%n",
+                connections, pipeline, s.count(), failures.sum(), s.count() / (double) durationSeconds);
+        System.out.printf(Locale.ROOT, "latency mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms%n",
+                s.mean() / 1e6, s.percentile(50) / 1e6, s.percentile(90) / 1e6, s.percentile(99) / 1e6,
+                s.percentile(99.9) / 1e6, s.max() / 1e6);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.benchmarks;
+
+import org.example.core.lexer.Lexer;
+import org.example.core.lexer.TableLexer;
+import org.example.core.token.Token;
+import org.example.core.validation.DefaultExpressionValidator;
+import org.example.core.validation.Diagnostic;
+import org.example.core.validation.TokenStreamValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The string validator (lexes internally) against the single-pass token check.
+ */
+@State(Scope.Benchmark)
+public class ValidatorBenchmark extends BenchmarkDefaults {
+
+    @Param({"8", "64", "512"})
+    public int operands;
+
+    @Param({"0", "4", "16"})
+    public int depth;
+
+    private DefaultExpressionValidator validator;
+    private final TokenStreamValidator tokenValidator = new TokenStreamValidator();
+    private String input;
+    private List<Token> tokens;
+
+    @Setup
+    public void setUp() {
+        Lexer lexer = new TableLexer();
+        validator = new DefaultExpressionValidator(lexer);
+        input = ExpressionCorpus.expression(operands, depth);
+        tokens = lexer.scan(input);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return validator.validate(input);
+    }
+
+    @Benchmark
+    public Optional<Diagnostic> checkTokens() {
+        return tokenValidator.check(tokens);
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.app;
+
+import org.example.config.CalculatorConfig;
+import org.example.core.evaluation.CalculatorEngine;
+import org.example.core.evaluation.CompiledExpression;
+import org.example.core.metrics.Metrics;
+import org.example.core.metrics.Stage;
+import org.example.core.parser.ParseResult;
+import org.example.io.input.MappedFileInputProvider;
+import org.example.io.output.BufferedFileOutputProvider;
+import org.example.io.output.ErrorMessages;
+import org.example.io.output.OutputProvider;
+import org.example.io.output.RecordFormatter;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * BatchFileRunner — evaluates a file with one expression per line and writes exactly
+ * one output line per input line, in input order. Results use the REPL record format;
+ * rejected or failing lines get the REPL error message instead, and blank lines stay blank.
+ *
+ * <p>The input is memory-mapped and lines are matched as raw bytes against a
+ * per-thread {@link SliceCache}, so repeated expressions skip decoding and compilation.
+ * With a parallelism above one the file is cut into line-aligned chunks that are
+ * evaluated concurrently; at most two chunks per worker are in flight, which bounds
+ * memory while their output is written back in order.
+ */
+public final class BatchFileRunner {
+
+    private static final double[] NO_BINDINGS = new double[0];
+
+    private final CalculatorEngine engine;
+    private final RecordFormatter formatter = RecordFormatter.fromConfig();
+    private final int parallelism;
+    private final int chunkBytes;
+    private final ThreadLocal<SliceCache> sliceCache;
+
+    public BatchFileRunner(CalculatorEngine engine) {
+        this(engine, CalculatorConfig.batchFileParallelism(), CalculatorConfig.batchFileChunkBytes(),
+                CalculatorConfig.batchFileSliceCache());
+    }
+
+    /**
+     * @param parallelism worker threads; {@code 0} uses all processors, {@code 1} runs on the caller
+     */
+    public BatchFileRunner(CalculatorEngine engine, int parallelism, int chunkBytes, int sliceCacheCapacity) {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkBytes);
+        }
+        this.engine = engine;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkBytes = chunkBytes;
+        this.sliceCache = ThreadLocal.withInitial(() -> new SliceCache(sliceCacheCapacity));
+    }
+
+    /**
+     * Line and error counts of a finished run.
+     */
+    public record Summary(long lines, long errors) {
+
+        Summary plus(Summary other) {
+            return new Summary(lines + other.lines, errors + other.errors);
+        }
+    }
+
+    public Summary run(Path input, Path output) throws IOException {
+        try (BufferedFileOutputProvider out = new BufferedFileOutputProvider(output)) {
+            if (parallelism == 1) {
+                try (MappedFileInputProvider in = new MappedFileInputProvider(input)) {
+                    return evaluateLines(in, out);
+                }
+            }
+            try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+                return runChunks(channel, out);
+            }
+        }
+    }
+
+    // ===== Chunks =====
+
+    private Summary runChunks(FileChannel channel, BufferedFileOutputProvider out) throws IOException {
+        long size = channel.size();
+        Summary total = new Summary(0, 0);
+        Deque<CompletableFuture<ChunkOutput>> inFlight = new ArrayDeque<>();
+
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            long start = 0;
+            while (start < size || !inFlight.isEmpty()) {
+                while (start < size && inFlight.size() < 2 * parallelism) {
+                    long from = start;
+                    long to = MappedFileInputProvider.lineStartAt(channel, Math.min(size, from + chunkBytes));
+                    inFlight.add(CompletableFuture.supplyAsync(() -> evaluateChunk(channel, from, to), pool));
+                    start = to;
+                }
+                ChunkOutput chunk = inFlight.removeFirst().join();
+                out.append(chunk.text);
+                total = total.plus(chunk.summary);
+            }
+        }
+        return total;
+    }
+
+    private ChunkOutput evaluateChunk(FileChannel channel, long from, long to) {
+        ChunkOutput chunk = new ChunkOutput();
+        chunk.summary = evaluateLines(new MappedFileInputProvider(channel, from, to), chunk);
+        return chunk;
+    }
+
+    // ===== Lines =====
+
+    private Summary evaluateLines(MappedFileInputProvider in, OutputProvider out) {
+        SliceCache cache = sliceCache.get();
+        byte[] line = new byte[256];
+        double[] stack = new double[16];
+        StringBuilder record = new StringBuilder(64);
+        long lines = 0;
+        long errors = 0;
+
+        while (in.advance()) {
+            lines++;
+            int length = in.lineLength();
+            if (line.length < length) {
+                line = new byte[Math.max(length, 2 * line.length)];
+            }
+            in.copyLine(line);
+
+            int from = 0;
+            int to = length;
+            while (from < to && isBlank(line[from])) from++;
+            while (to > from && isBlank(line[to - 1])) to--;
+            if (from == to) {
+                out.write("");
+                continue;
+            }
+
+            int hash = SliceCache.hash(line, from, to);
+            CompiledExpression expression = cache.get(hash, line, from, to);
+            if (expression == null) {
+                String source = new String(line, from, to - from, StandardCharsets.UTF_8);
+                switch (engine.tryCompile(source)) {
+                    case ParseResult.Success<CompiledExpression> success -> {
+                        expression = success.value();
+                        cache.put(hash, line, from, to, expression);
+                    }
+                    case ParseResult.Failure<CompiledExpression> failure -> {
+                        out.displayError("Invalid expression: " + failure.diagnostic().message());
+                        errors++;
+                        continue;
+                    }
+                }
+            }
+
+            int depth = expression.stackSize();
+            if (stack.length < depth) {
+                stack = new double[depth];
+            }
+            if (!evaluateAndWrite(expression, stack, record, out)) {
+                errors++;
+            }
+        }
+        return new Summary(lines, errors);
+    }
+
+    private boolean evaluateAndWrite(CompiledExpression expression, double[] stack, StringBuilder record,
+                                     OutputProvider out) {
+        try {
+            long start = Metrics.start();
+            double value = expression.evaluate(NO_BINDINGS, stack);
+            Metrics.record(Stage.EVALUATE, start);
+            record.setLength(0);
+            formatter.formatTo(record, value, expression.getSource());
+            out.write(record.toString());
+            return true;
+
+        } catch (Exception e) {
+            out.displayError(ErrorMessages.of(e));
+        }
+        return false;
+    }
+
+    /** Same rule as {@link String#trim()}, applied to single bytes. */
+    private static boolean isBlank(byte b) {
+        return (b & 0xFF) <= ' ';
+    }
+
+    /**
+     * Output lines of one chunk, buffered until the chunks before it are written.
+     */
+    private static final class ChunkOutput implements OutputProvider {
+
+        private final StringBuilder text = new StringBuilder();
+        private Summary summary;
+
+        @Override
+        public void write(String message) {
+            text.append(message).append(System.lineSeparator());
+        }
+
+        @Override
+        public void displayError(String message) {
+            write(message);
+        }
+    }
+}
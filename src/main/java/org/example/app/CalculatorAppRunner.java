@@ -3,14 +3,21 @@ package org.example.app;
 import lombok.RequiredArgsConstructor;
 import org.example.config.AppInfoConfig;
 import org.example.config.CalculatorConfig;
-import org.example.config.OperatorConfig;
 import org.example.core.evaluation.CalculatorEngine;
-import org.example.core.validation.ExpressionValidator;
+import org.example.core.evaluation.CompiledExpression;
+import org.example.core.metrics.ExpressionEvent;
+import org.example.core.metrics.Metrics;
+import org.example.core.metrics.Stage;
+import org.example.core.parser.ExpressionCompiler;
+import org.example.core.parser.ParseResult;
+import org.example.core.validation.Diagnostic;
 import org.example.io.input.InputProvider;
+import org.example.io.output.ErrorMessages;
 import org.example.io.output.OutputProvider;
-import org.example.core.exception.EvaluationException;
+import org.example.io.output.RecordFormatter;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 @RequiredArgsConstructor
@@ -19,12 +26,15 @@ public final class CalculatorAppRunner {
     private final InputProvider input;
     private final OutputProvider output;
     private final CalculatorEngine engine;
-    private final ExpressionValidator validator;
+    private final RecordFormatter formatter = RecordFormatter.fromConfig();
+    private final StringBuilder record = new StringBuilder();
+
+    /** Expression being entered, compiled line by line; {@code null} until its first line. */
+    private ExpressionCompiler.Session pending;
 
     public void run() {
         printWelcome();
 
-        StringBuilder buffer = new StringBuilder();
         int blankCount = 0;
 
         final int evalThreshold = CalculatorConfig.evalThreshold();
@@ -35,12 +45,35 @@ public final class CalculatorAppRunner {
                     .orElse("")
                     .trim();
 
-            blankCount = handleInputLine(line, buffer, blankCount, evalThreshold);
+            blankCount = handleInputLine(line, blankCount, evalThreshold);
         }
 
         output.write(CalculatorConfig.exitMessage());
     }
 
+    /**
+     * Non-interactive mode: no banner, every non-blank line is one expression, and the
+     * run ends with the input. Output is flushed whenever the next read would block and
+     * at the end, so a producer writing line by line still sees its results promptly.
+     */
+    public void runPipe() {
+        String metricsCommand = CalculatorConfig.metricsCommand();
+        String line;
+
+        while ((line = input.fetchInput()) != null) {
+            line = line.trim();
+            if (line.equals(metricsCommand)) {
+                output.write(Metrics.dump());
+            } else if (!line.isEmpty()) {
+                processExpression(line);
+            }
+            if (!input.hasBufferedInput()) {
+                output.flush();
+            }
+        }
+        output.flush();
+    }
+
     // ===== Private Helpers =====
 
     private void printWelcome() {
@@ -51,66 +84,95 @@ public final class CalculatorAppRunner {
         ).forEach(output::write);
     }
 
-    private int handleInputLine(String line, StringBuilder buffer, int blankCount, int evalThreshold) {
+    private int handleInputLine(String line, int blankCount, int evalThreshold) {
 
         if (line.isBlank()) {
-            return handleEvaluationTrigger(buffer, blankCount + 1, evalThreshold);
+            return handleEvaluationTrigger(blankCount + 1, evalThreshold);
 
-        } else if (buffer.length() > 0) {
-            buffer.append(' ');
-            buffer.append(line);
+        } else if (line.equals(CalculatorConfig.metricsCommand())) {
+            output.write(Metrics.dump());
             return 0;
 
         } else {
-            buffer.append(line);
+            feedLine(line);
             return 0;
         }
     }
 
+    /**
+     * Lexes, validates and parses the line right away, so a problem is reported on the
+     * line that causes it; the rest of that expression is then skipped.
+     */
+    private void feedLine(String line) {
+        if (pending == null) {
+            pending = engine.session();
+        }
+        Optional<Diagnostic> problem = pending.feed(line);
+        problem.ifPresent(diagnostic -> output.displayError(
+                "Invalid expression (line " + pending.pieces() + "): " + diagnostic.message()));
+    }
 
-    private int handleEvaluationTrigger(StringBuilder buffer, int count, int evalThreshold) {
+    private int handleEvaluationTrigger(int count, int evalThreshold) {
         if (count == evalThreshold) {
-            String expr = buffer.toString().trim();
-            buffer.setLength(0);
-            processExpression(expr);
+            ExpressionCompiler.Session session = pending;
+            pending = null;
+            if (session == null) {
+                processExpression("");
+            } else if (!session.failed()) {
+                processExpression(session);
+            }
         }
         return count;
     }
 
+    /**
+     * Validates and parses in one scan; invalid input is reported with its diagnostic.
+     * The whole request, including output, is timed as {@link Stage#REQUEST}.
+     */
     private void processExpression(String expr) {
-        boolean valid = validator.validate(expr);
+        processExpression(expr, () -> engine.tryCompile(expr));
+    }
+
+    /**
+     * Completes an expression compiled line by line; only the final reduction is left.
+     */
+    private void processExpression(ExpressionCompiler.Session session) {
+        processExpression(session.source(), () -> engine.tryCompile(session));
+    }
 
-        if (!valid) {
-            output.displayError("Invalid expression");
-            return;
+    private void processExpression(String expr, Supplier<ParseResult<CompiledExpression>> compile) {
+        ExpressionEvent event = new ExpressionEvent();
+        event.begin();
+        long start = Metrics.start();
+        int tokens = -1;
+
+        switch (compile.get()) {
+            case ParseResult.Success<CompiledExpression> success -> {
+                tokens = success.value().getProgram().size();
+                evaluateAndDisplay(success.value());
+            }
+            case ParseResult.Failure<CompiledExpression> failure ->
+                    output.displayError("Invalid expression: " + failure.diagnostic().message());
         }
 
-        evaluateAndDisplay(expr);
+        Metrics.record(Stage.REQUEST, start);
+        event.complete(expr.length(), tokens);
     }
 
 
-    private void evaluateAndDisplay(String expr) {
+    private void evaluateAndDisplay(CompiledExpression expression) {
         try {
-            double value = engine.evaluate(expr);
-            handleResult(value, expr);
-
-        } catch (ArithmeticException e) {
-            output.displayError("[MATH] " + e.getMessage());
-
-        } catch (EvaluationException e) {
-            output.displayError("[EVAL] " + e.getMessage());
+            double value = engine.evaluate(expression);
+            handleResult(value, expression.getSource());
 
         } catch (Exception e) {
-            output.displayError("[UNEXPECTED] " + e.getMessage());
+            output.displayError(ErrorMessages.of(e));
         }
     }
 
     private void handleResult(double result, String expression) {
-        output.write(String.format(
-                OperatorConfig.recordFormat(),
-                CalculatorConfig.resultPrefix(),
-                result,
-                expression
-        ));
+        record.setLength(0);
+        formatter.formatTo(record, result, expression);
+        output.write(record.toString());
     }
 }
\ No newline at end of file
@@ -1,20 +1,36 @@
 package org.example.app;
 
+import org.example.config.CalculatorConfig;
+import org.example.config.ConfigurationLoadException;
 import org.example.core.evaluation.CalculatorEngine;
 import org.example.core.evaluation.RpnEvaluationAlgorithm;
 import org.example.core.lexer.Lexer;
-import org.example.core.lexer.RegexLexer;
+import org.example.core.lexer.TableLexer;
+import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.operators.factory.OperatorRegistry;
 import org.example.core.parser.DefaultRpnParser;
 import org.example.core.parser.ExpressionParser;
 import org.example.core.parser.InfixExpressionParser;
 import org.example.core.parser.RpnParser;
-import org.example.core.validation.DefaultExpressionValidator;
-import org.example.core.validation.ExpressionValidator;
 import org.example.core.evaluation.EvaluationAlgorithm;
+import org.example.core.evaluation.TierUpListener;
+import org.example.core.evaluation.TieredEvaluationAlgorithm;
+import org.example.core.evaluation.bytecode.BytecodeEvaluationAlgorithm;
+import org.example.core.evaluation.methodhandle.MethodHandleEvaluationAlgorithm;
+import org.example.core.evaluation.precision.AdaptivePrecisionEvaluationAlgorithm;
+import org.example.io.input.BufferedStreamInputProvider;
 import org.example.io.input.ConsoleInputProvider;
 import org.example.io.input.InputProvider;
+import org.example.io.output.BufferedStreamOutputProvider;
 import org.example.io.output.ConsoleOutputProvider;
 import org.example.io.output.OutputProvider;
+import org.example.server.HttpEvaluationServer;
+import org.example.server.LineProtocolServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 
 /**
  * CalculatorApplication — manual dependency wiring.
@@ -22,24 +38,131 @@ import org.example.io.output.OutputProvider;
  */
 public final class CalculatorApplication {
 
-    public static void main(String[] args) {
+    private static final String BATCH_FLAG = "--batch";
+    private static final String SERVE_FLAG = "--serve";
+    private static final String TCP_FLAG = "--tcp";
+    private static final String HTTP_NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    public static void main(String[] args) throws IOException {
 
         // ===== Core Layer =====
 
-        Lexer lexer = new RegexLexer();
-        ExpressionValidator validator = new DefaultExpressionValidator(lexer);
-        RpnParser rpnParser = new DefaultRpnParser();
+        OperatorRegistry operators = OperatorFactory.registry();
+        Lexer lexer = new TableLexer(operators);
+        RpnParser rpnParser = new DefaultRpnParser(operators);
         ExpressionParser parser = new InfixExpressionParser(lexer);
 
-        EvaluationAlgorithm algorithm = new RpnEvaluationAlgorithm();
-        CalculatorEngine engine = new CalculatorEngine(parser, rpnParser, algorithm);
+        EvaluationAlgorithm algorithm = createAlgorithm(CalculatorConfig.engineBackend());
+        CalculatorEngine engine = new CalculatorEngine(parser, rpnParser, algorithm, operators);
+
+        if (args.length > 0 && BATCH_FLAG.equals(args[0])) {
+            runBatch(args, engine);
+            return;
+        }
+        if (args.length > 0 && SERVE_FLAG.equals(args[0])) {
+            runServer(engine);
+            return;
+        }
+        if (args.length > 0 && TCP_FLAG.equals(args[0])) {
+            runTcpServer(engine);
+            return;
+        }
 
         // ===== IO Layer =====
+        if (isPipeMode(CalculatorConfig.ioMode())) {
+            Charset charset = Charset.defaultCharset();
+            InputProvider input = new BufferedStreamInputProvider(System.in, charset);
+            OutputProvider output = new BufferedStreamOutputProvider(System.out, System.err, System.out.charset());
+            new CalculatorAppRunner(input, output, engine).runPipe();
+            return;
+        }
+
         InputProvider input = new ConsoleInputProvider();
         OutputProvider output = new ConsoleOutputProvider();
 
         // ===== App Runner =====
-        CalculatorAppRunner runner = new CalculatorAppRunner(input, output, engine, validator);
+        CalculatorAppRunner runner = new CalculatorAppRunner(input, output, engine);
         runner.run();
     }
+
+    /**
+     * {@code calculator.io.mode}: {@code auto} picks pipe mode when there is no console,
+     * i.e. when standard input or output is redirected.
+     */
+    private static boolean isPipeMode(String mode) {
+        return switch (mode) {
+            case "auto" -> System.console() == null;
+            case "pipe" -> true;
+            case "interactive" -> false;
+            default -> throw new ConfigurationLoadException("Unknown IO mode: " + mode);
+        };
+    }
+
+    /**
+     * {@code --batch <input> <output>}: evaluates a file line by line instead of starting the REPL.
+     */
+    private static void runBatch(String[] args, CalculatorEngine engine) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: " + BATCH_FLAG + " <input-file> <output-file>");
+            System.exit(2);
+        }
+        long start = System.nanoTime();
+        BatchFileRunner.Summary summary = new BatchFileRunner(engine).run(Path.of(args[1]), Path.of(args[2]));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Evaluated " + summary.lines() + " lines (" + summary.errors() + " errors) in " + millis + " ms");
+    }
+
+    /**
+     * {@code --serve}: starts the HTTP server; its dispatcher thread keeps the JVM alive
+     * until the process is stopped.
+     */
+    private static void runServer(CalculatorEngine engine) throws IOException {
+        // The JDK HTTP server leaves Nagle's algorithm on, so small responses wait out the
+        // client's delayed ACK (about 40 ms per keep-alive request). The JVM-wide property
+        // is read once, when the server implementation loads, so it must be set before
+        // the first HttpServer is created; an explicit -D setting wins.
+        if (System.getProperty(HTTP_NODELAY_PROPERTY) == null) {
+            System.setProperty(HTTP_NODELAY_PROPERTY, "true");
+        }
+        HttpEvaluationServer server = HttpEvaluationServer.fromConfig(engine);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        InetSocketAddress address = server.address();
+        System.out.println("Listening on http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    /**
+     * {@code --tcp}: starts the line-protocol server; its threads keep the JVM alive.
+     */
+    private static void runTcpServer(CalculatorEngine engine) throws IOException {
+        LineProtocolServer server = LineProtocolServer.fromConfig(engine);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException ignored) {
+                // exiting anyway
+            }
+        }));
+        InetSocketAddress address = server.address();
+        System.out.println("Listening on tcp://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    /**
+     * Selects the evaluation backend named by {@code calculator.engine.backend}.
+     */
+    private static EvaluationAlgorithm createAlgorithm(String backend) {
+        return switch (backend) {
+            case "rpn" -> new RpnEvaluationAlgorithm();
+            case "method-handle" -> new MethodHandleEvaluationAlgorithm();
+            case "bytecode" -> new BytecodeEvaluationAlgorithm();
+            case "tiered" -> new TieredEvaluationAlgorithm(
+                    new RpnEvaluationAlgorithm(),
+                    new BytecodeEvaluationAlgorithm(),
+                    CalculatorConfig.tierThreshold(),
+                    TierUpListener.logging());
+            case "adaptive" -> AdaptivePrecisionEvaluationAlgorithm.fromConfig();
+            default -> throw new ConfigurationLoadException("Unknown evaluation backend: " + backend);
+        };
+    }
 }
@@ -0,0 +1,59 @@
+package org.example.app;
+
+import org.example.core.evaluation.CompiledExpression;
+
+import java.util.Arrays;
+
+/**
+ * SliceCache — direct-mapped cache from raw line bytes to compiled expressions.
+ * A hit needs neither a {@code String} nor an engine cache lookup; a collision simply
+ * replaces the slot. Not thread-safe: every batch worker thread owns one.
+ */
+final class SliceCache {
+
+    private final byte[][] keys;
+    private final int[] hashes;
+    private final CompiledExpression[] values;
+    private final int mask;
+
+    /**
+     * @param capacity slot count, rounded up to a power of two; {@code 0} disables the cache
+     */
+    SliceCache(int capacity) {
+        int size = capacity <= 0 ? 0 : Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.keys = new byte[size][];
+        this.hashes = new int[size];
+        this.values = new CompiledExpression[size];
+        this.mask = size - 1;
+    }
+
+    static int hash(byte[] bytes, int from, int to) {
+        int h = 1;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    CompiledExpression get(int hash, byte[] bytes, int from, int to) {
+        if (values.length == 0) {
+            return null;
+        }
+        int slot = hash & mask;
+        byte[] key = keys[slot];
+        if (key != null && hashes[slot] == hash && Arrays.equals(key, 0, key.length, bytes, from, to)) {
+            return values[slot];
+        }
+        return null;
+    }
+
+    void put(int hash, byte[] bytes, int from, int to, CompiledExpression value) {
+        if (values.length == 0) {
+            return;
+        }
+        int slot = hash & mask;
+        keys[slot] = Arrays.copyOfRange(bytes, from, to);
+        hashes[slot] = hash;
+        values[slot] = value;
+    }
+}
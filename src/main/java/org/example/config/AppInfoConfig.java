@@ -9,10 +9,10 @@ import lombok.NoArgsConstructor;
 public final class AppInfoConfig {
 
     public static String appName() {
-        return ConfigurationManager.getOrThrow("app.name");
+        return ConfigurationManager.current().app().name();
     }
 
     public static String appVersion() {
-        return ConfigurationManager.getOrThrow("app.version");
+        return ConfigurationManager.current().app().version();
     }
 }
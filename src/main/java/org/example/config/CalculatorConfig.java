@@ -10,27 +10,135 @@ public final class CalculatorConfig {
 
     // ===== Thresholds =====
     public static int evalThreshold() {
-        return ConfigurationManager.getInt("calculator.eval.threshold");
+        return settings().console().evalThreshold();
     }
 
     public static int exitThreshold() {
-        return ConfigurationManager.getInt("calculator.exit.threshold");
+        return settings().console().exitThreshold();
+    }
+
+    // ===== Cache =====
+    public static int cacheCapacity() {
+        return settings().cache().capacity();
+    }
+
+    // ===== Engine =====
+    public static String engineBackend() {
+        return settings().engine().backend();
+    }
+
+    public static int tierThreshold() {
+        return settings().engine().tierThreshold();
+    }
+
+    public static String optimizerMode() {
+        return settings().engine().optimizerMode();
+    }
+
+    // ===== Precision =====
+    public static double precisionTolerance() {
+        return settings().engine().precisionTolerance();
+    }
+
+    public static int precisionDigits() {
+        return settings().engine().precisionDigits();
+    }
+
+    // ===== Batch =====
+    public static int batchParallelism() {
+        return settings().batch().parallelism();
+    }
+
+    public static int batchSequentialThreshold() {
+        return settings().batch().sequentialThreshold();
+    }
+
+    public static int batchChunkSize() {
+        return settings().batch().chunkSize();
+    }
+
+    public static int batchFileParallelism() {
+        return settings().batch().fileParallelism();
+    }
+
+    public static int batchFileChunkBytes() {
+        return settings().batch().fileChunkBytes();
+    }
+
+    public static int batchFileSliceCache() {
+        return settings().batch().fileSliceCache();
+    }
+
+    // ===== Columnar =====
+    public static int columnarChunkSize() {
+        return settings().engine().columnarChunkSize();
+    }
+
+    // ===== IO =====
+    public static String ioMode() {
+        return settings().console().ioMode();
+    }
+
+    // ===== Server =====
+    public static String serverHost() {
+        return settings().server().host();
+    }
+
+    public static int serverPort() {
+        return settings().server().port();
+    }
+
+    public static int serverBacklog() {
+        return settings().server().backlog();
+    }
+
+    public static String tcpHost() {
+        return settings().tcp().host();
+    }
+
+    public static int tcpPort() {
+        return settings().tcp().port();
+    }
+
+    public static int tcpEventLoops() {
+        return settings().tcp().eventLoops();
+    }
+
+    public static int tcpWorkers() {
+        return settings().tcp().workers();
+    }
+
+    public static int tcpBufferSize() {
+        return settings().tcp().bufferSize();
+    }
+
+    // ===== Metrics =====
+    public static boolean metricsEnabled() {
+        return settings().metrics().enabled();
+    }
+
+    public static String metricsCommand() {
+        return settings().metrics().command();
     }
 
     // ===== Messages =====
     public static String exitMessage() {
-        return ConfigurationManager.getOrThrow("calculator.exit.message");
+        return settings().console().exitMessage();
     }
 
     public static String resultPrefix() {
-        return ConfigurationManager.getOrThrow("calculator.result.prefix");
+        return settings().console().resultPrefix();
     }
 
     public static String errorEmpty() {
-        return ConfigurationManager.getOrThrow("calculator.error.empty");
+        return settings().console().errorEmpty();
     }
 
     public static String promptInput() {
-        return ConfigurationManager.getOrThrow("calculator.prompt.input");
+        return settings().console().promptInput();
+    }
+
+    private static ConfigSnapshot.Calculator settings() {
+        return ConfigurationManager.current().calculator();
     }
-}
\ No newline at end of file
+}
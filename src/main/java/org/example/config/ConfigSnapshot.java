@@ -0,0 +1,190 @@
+package org.example.config;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * ConfigSnapshot — immutable, typed view of {@code application.properties}.
+ * Values are parsed once at load time; hot paths read plain final fields.
+ */
+public record ConfigSnapshot(Map<String, String> values,
+                             AppInfo app,
+                             Calculator calculator,
+                             Operators operators) {
+
+    public record AppInfo(String name, String version) {
+    }
+
+    /**
+     * Calculator settings, grouped by the component that reads them.
+     */
+    public record Calculator(Engine engine,
+                             Cache cache,
+                             Batch batch,
+                             Server server,
+                             Tcp tcp,
+                             Metrics metrics,
+                             Console console) {
+    }
+
+    public record Engine(String backend,
+                         int tierThreshold,
+                         String optimizerMode,
+                         double precisionTolerance,
+                         int precisionDigits,
+                         int columnarChunkSize) {
+    }
+
+    public record Cache(int capacity) {
+    }
+
+    public record Batch(int parallelism,
+                        int sequentialThreshold,
+                        int chunkSize,
+                        int fileParallelism,
+                        int fileChunkBytes,
+                        int fileSliceCache) {
+    }
+
+    public record Server(String host, int port, int backlog) {
+    }
+
+    public record Tcp(String host,
+                      int port,
+                      int eventLoops,
+                      int workers,
+                      int bufferSize) {
+    }
+
+    public record Metrics(boolean enabled, String command) {
+    }
+
+    public record Console(int evalThreshold,
+                          int exitThreshold,
+                          String ioMode,
+                          String exitMessage,
+                          String resultPrefix,
+                          String errorEmpty,
+                          String promptInput) {
+    }
+
+    public record Operators(String plus,
+                            String minus,
+                            String multiply,
+                            String unaryMinus,
+                            String unaryPlus,
+                            char leftParen,
+                            char rightParen,
+                            String allowedChars,
+                            String recordFormat) {
+    }
+
+    static ConfigSnapshot from(Properties properties) {
+        Map<String, String> values = toMap(properties);
+
+        AppInfo app = new AppInfo(
+                require(values, "app.name"),
+                require(values, "app.version")
+        );
+
+        Calculator calculator = new Calculator(
+                new Engine(
+                        require(values, "calculator.engine.backend").trim(),
+                        requireInt(values, "calculator.tier.threshold"),
+                        require(values, "calculator.optimizer.mode").trim(),
+                        requireDouble(values, "calculator.precision.tolerance"),
+                        requireInt(values, "calculator.precision.digits"),
+                        requireInt(values, "calculator.columnar.chunk.size")),
+                new Cache(
+                        requireInt(values, "calculator.cache.capacity")),
+                new Batch(
+                        requireInt(values, "calculator.batch.parallelism"),
+                        requireInt(values, "calculator.batch.sequential.threshold"),
+                        requireInt(values, "calculator.batch.chunk.size"),
+                        requireInt(values, "calculator.batch.file.parallelism"),
+                        requireInt(values, "calculator.batch.file.chunk.bytes"),
+                        requireInt(values, "calculator.batch.file.slice.cache")),
+                new Server(
+                        require(values, "calculator.server.host").trim(),
+                        requireInt(values, "calculator.server.port"),
+                        requireInt(values, "calculator.server.backlog")),
+                new Tcp(
+                        require(values, "calculator.tcp.host").trim(),
+                        requireInt(values, "calculator.tcp.port"),
+                        requireInt(values, "calculator.tcp.event.loops"),
+                        requireInt(values, "calculator.tcp.workers"),
+                        requireInt(values, "calculator.tcp.buffer.size")),
+                new Metrics(
+                        Boolean.parseBoolean(require(values, "calculator.metrics.enabled").trim()),
+                        require(values, "calculator.command.metrics").trim()),
+                new Console(
+                        requireInt(values, "calculator.eval.threshold"),
+                        requireInt(values, "calculator.exit.threshold"),
+                        require(values, "calculator.io.mode").trim(),
+                        require(values, "calculator.exit.message"),
+                        require(values, "calculator.result.prefix"),
+                        require(values, "calculator.error.empty"),
+                        require(values, "calculator.prompt.input"))
+        );
+
+        Operators operators = new Operators(
+                require(values, "operator.plus"),
+                require(values, "operator.minus"),
+                require(values, "operator.multiply"),
+                require(values, "operator.unary.minus"),
+                require(values, "operator.unary.plus"),
+                require(values, "operator.left.paren").charAt(0),
+                require(values, "operator.right.paren").charAt(0),
+                require(values, "operator.allowed.chars"),
+                require(values, "operator.record.format")
+        );
+
+        return new ConfigSnapshot(values, app, calculator, operators);
+    }
+
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(values.get(key));
+    }
+
+    public String getOrThrow(String key) {
+        return require(values, key);
+    }
+
+    public int getInt(String key) {
+        return requireInt(values, key);
+    }
+
+    // ===== Private Helpers =====
+
+    private static Map<String, String> toMap(Properties properties) {
+        return properties.stringPropertyNames().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        key -> key, properties::getProperty));
+    }
+
+    private static String require(Map<String, String> values, String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new ConfigurationLoadException("Missing configuration value for key: " + key);
+        }
+        return value;
+    }
+
+    private static int requireInt(Map<String, String> values, String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new ConfigurationLoadException("Missing integer value for key: " + key);
+        }
+        return Integer.parseInt(value.trim());
+    }
+
+    private static double requireDouble(Map<String, String> values, String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new ConfigurationLoadException("Missing decimal value for key: " + key);
+        }
+        return Double.parseDouble(value.trim());
+    }
+}
@@ -10,13 +10,10 @@ import java.util.Optional;
 public final class ConfigurationManager {
 
     private static final String CONFIG_FILE = "/application.properties";
-    private static final Properties properties = new Properties();
+    private static volatile ConfigSnapshot snapshot = loadConfiguration();
 
-    static {
-        loadConfiguration();
-    }
-
-    private static void loadConfiguration() {
+    private static ConfigSnapshot loadConfiguration() {
+        Properties properties = new Properties();
         try (InputStream input = ConfigurationManager.class.getResourceAsStream(CONFIG_FILE)) {
             if (Objects.isNull(input)) {
                 throw new FileNotFoundException("Config file not found: " + CONFIG_FILE);
@@ -25,25 +22,35 @@ public final class ConfigurationManager {
         } catch (IOException e) {
             throw new ConfigurationLoadException("Failed to load configuration file: " + CONFIG_FILE, e);
         }
+        return ConfigSnapshot.from(properties);
+    }
+
+    /**
+     * Returns the current immutable configuration snapshot.
+     */
+    public static ConfigSnapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * Re-reads the configuration file and atomically replaces the snapshot.
+     * Components that captured the previous snapshot keep using it.
+     */
+    public static synchronized ConfigSnapshot reload() {
+        ConfigSnapshot reloaded = loadConfiguration();
+        snapshot = reloaded;
+        return reloaded;
     }
 
     public static Optional<String> get(String key) {
-        return Optional.ofNullable(properties.getProperty(key));
+        return snapshot.get(key);
     }
 
     public static String getOrThrow(String key) {
-        return get(key)
-                .orElseThrow(() ->
-                        new ConfigurationLoadException("Missing configuration value for key: " + key)
-                );
+        return snapshot.getOrThrow(key);
     }
 
     public static int getInt(String key) {
-        return get(key)
-                .map(String::trim)
-                .map(Integer::parseInt)
-                .orElseThrow(() ->
-                        new ConfigurationLoadException("Missing integer value for key: " + key)
-                );
+        return snapshot.getInt(key);
     }
 }
@@ -10,38 +10,45 @@ public final class OperatorConfig {
 
 
     public static String plusOperator() {
-        return ConfigurationManager.getOrThrow("operator.plus");
+        return symbols().plus();
     }
 
     public static String minusOperator() {
-        return ConfigurationManager.getOrThrow("operator.minus");
+        return symbols().minus();
     }
 
     public static String multiplyOperator() {
-        return ConfigurationManager.getOrThrow("operator.multiply");
+        return symbols().multiply();
     }
 
     public static char leftParen() {
-        return ConfigurationManager.getOrThrow("operator.left.paren").charAt(0);
+        return symbols().leftParen();
     }
 
     public static char rightParen() {
-        return ConfigurationManager.getOrThrow("operator.right.paren").charAt(0);
+        return symbols().rightParen();
     }
 
     public static String unaryMinusOperator() {
-        return ConfigurationManager.getOrThrow("operator.unary.minus");
+        return symbols().unaryMinus();
     }
 
     public static String unaryPlusOperator() {
-        return ConfigurationManager.getOrThrow("operator.unary.plus");
+        return symbols().unaryPlus();
     }
 
     public static String allowedOperatorChars() {
-        return ConfigurationManager.getOrThrow("operator.allowed.chars");
+        return symbols().allowedChars();
     }
 
     public static String recordFormat() {
-        return ConfigurationManager.getOrThrow("operator.record.format");
+        return symbols().recordFormat();
+    }
+
+    /**
+     * Current operator symbols; hot paths capture this once into a final field.
+     */
+    public static ConfigSnapshot.Operators symbols() {
+        return ConfigurationManager.current().operators();
     }
 }
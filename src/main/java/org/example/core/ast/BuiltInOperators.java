@@ -0,0 +1,33 @@
+package org.example.core.ast;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.impl.AdditionOperator;
+import org.example.core.operators.impl.CosOperator;
+import org.example.core.operators.impl.DivisionOperator;
+import org.example.core.operators.impl.MultiplicationOperator;
+import org.example.core.operators.impl.SinOperator;
+import org.example.core.operators.impl.SubtractionOperator;
+import org.example.core.operators.impl.UnaryMinusOperator;
+import org.example.core.operators.impl.UnaryPlusOperator;
+
+import java.util.Set;
+
+/**
+ * The operators known to be pure, matched by exact class so subclasses that
+ * override {@code apply} are not trusted.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BuiltInOperators {
+
+    private static final Set<Class<?>> PURE = Set.of(
+            AdditionOperator.class, SubtractionOperator.class,
+            MultiplicationOperator.class, DivisionOperator.class,
+            UnaryMinusOperator.class, UnaryPlusOperator.class,
+            SinOperator.class, CosOperator.class);
+
+    static boolean isBuiltIn(Operator op) {
+        return PURE.contains(op.getClass());
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.core.ast;
+
+import org.example.core.operators.base.Operator;
+import org.example.core.token.Token;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CommonSubexpressions — lowers a tree to postfix order, computing every repeated
+ * pure subtree once. Structurally identical subtrees get the same value number;
+ * the first occurrence is followed by a {@code STORE} into a temporary and later
+ * occurrences become a {@code LOAD}. This also covers {@code sin(e)} next to
+ * {@code cos(e)}: the shared argument {@code e} is evaluated once for both.
+ * Subtrees containing registered (non built-in) operators are never merged.
+ */
+final class CommonSubexpressions {
+
+    /**
+     * Lowered code and the number of operator applications it avoids compared to
+     * lowering every occurrence separately.
+     */
+    record Lowering(List<Token> tokens, int savedApplications) {
+    }
+
+    /** Value-number key: operator (or leaf value) plus the numbers of its operands. */
+    private record Key(Object head, int left, int right) {
+    }
+
+    private final Map<ExprNode, Integer> numbers = new IdentityHashMap<>();
+    private final Map<Key, Integer> table = new HashMap<>();
+    private final BitSet interned = new BitSet();
+    private int nextNumber;
+
+    private int[] uses;
+    private int[] temporaries;
+    private int nextTemporary;
+
+    static Lowering lower(ExprNode root) {
+        return new CommonSubexpressions().run(root);
+    }
+
+    private Lowering run(ExprNode root) {
+        number(root);
+
+        uses = new int[nextNumber];
+        countUses(root);
+
+        temporaries = new int[nextNumber];
+        Arrays.fill(temporaries, -1);
+        List<Token> out = new ArrayList<>();
+        emit(root, out);
+
+        int emitted = (int) out.stream().filter(Token::isOperator).count();
+        return new Lowering(out, applications(root) - emitted);
+    }
+
+    // ===== Value Numbering =====
+
+    private int number(ExprNode node) {
+        Integer known = numbers.get(node);
+        if (known != null) {
+            return known;
+        }
+        int number = switch (node) {
+            case ExprNode.Constant constant -> intern(new Key(Double.doubleToRawLongBits(constant.value()), -1, -1));
+            case ExprNode.Variable variable -> intern(new Key(variable.name(), -1, -1));
+            case ExprNode.Unary unary -> {
+                int operand = number(unary.operand());
+                yield pure(unary.operator(), operand) ? intern(new Key(unary.operator(), operand, -1)) : nextNumber++;
+            }
+            case ExprNode.Binary binary -> {
+                int left = number(binary.left());
+                int right = number(binary.right());
+                yield pure(binary.operator(), left, right)
+                        ? intern(new Key(binary.operator(), left, right))
+                        : nextNumber++;
+            }
+        };
+        numbers.put(node, number);
+        return number;
+    }
+
+    private int intern(Key key) {
+        int number = table.computeIfAbsent(key, k -> nextNumber++);
+        interned.set(number);
+        return number;
+    }
+
+    /**
+     * Impure numbers are never interned, so an operand is pure exactly when its
+     * number came from the table.
+     */
+    private boolean pure(Operator op, int... operands) {
+        if (!BuiltInOperators.isBuiltIn(op)) {
+            return false;
+        }
+        for (int operand : operands) {
+            if (!interned.get(operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ===== Emission =====
+
+    /**
+     * Counts occurrences the way {@link #emit} visits them: a repeated subtree is not
+     * descended into again, so its inner nodes count only once.
+     */
+    private void countUses(ExprNode node) {
+        if (uses[numbers.get(node)]++ > 0) {
+            return;
+        }
+        switch (node) {
+            case ExprNode.Unary unary -> countUses(unary.operand());
+            case ExprNode.Binary binary -> {
+                countUses(binary.left());
+                countUses(binary.right());
+            }
+            default -> { }
+        }
+    }
+
+    private void emit(ExprNode node, List<Token> out) {
+        int number = numbers.get(node);
+        if (temporaries[number] >= 0) {
+            out.add(Token.load(temporaries[number]));
+            return;
+        }
+        switch (node) {
+            case ExprNode.Constant constant -> out.add(Token.number(Double.toString(constant.value()), constant.value()));
+            case ExprNode.Variable variable -> out.add(Token.identifier(variable.name()));
+            case ExprNode.Unary unary -> {
+                emit(unary.operand(), out);
+                out.add(unary.token());
+                share(number, out);
+            }
+            case ExprNode.Binary binary -> {
+                emit(binary.left(), out);
+                emit(binary.right(), out);
+                out.add(binary.token());
+                share(number, out);
+            }
+        }
+    }
+
+    private void share(int number, List<Token> out) {
+        if (uses[number] > 1 && interned.get(number)) {
+            temporaries[number] = nextTemporary++;
+            out.add(Token.store(temporaries[number]));
+        }
+    }
+
+    private static int applications(ExprNode node) {
+        return switch (node) {
+            case ExprNode.Constant constant -> 0;
+            case ExprNode.Variable variable -> 0;
+            case ExprNode.Unary unary -> 1 + applications(unary.operand());
+            case ExprNode.Binary binary -> 1 + applications(binary.left()) + applications(binary.right());
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.core.ast;
+
+import org.example.core.operators.base.BinaryOperator;
+import org.example.core.operators.base.UnaryOperator;
+import org.example.core.token.Token;
+
+/**
+ * Expression tree built from an RPN program, used for optimization before the
+ * program is lowered back to RPN for the evaluators.
+ * Operator nodes keep their original token so lowering reproduces it exactly.
+ */
+public sealed interface ExprNode {
+
+    record Constant(double value) implements ExprNode {
+    }
+
+    record Variable(String name) implements ExprNode {
+    }
+
+    record Unary(Token token, ExprNode operand) implements ExprNode {
+
+        public UnaryOperator operator() {
+            return (UnaryOperator) token.operator();
+        }
+    }
+
+    record Binary(Token token, ExprNode left, ExprNode right) implements ExprNode {
+
+        public BinaryOperator operator() {
+            return (BinaryOperator) token.operator();
+        }
+    }
+
+    default boolean isConstant() {
+        return this instanceof Constant;
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.core.ast;
+
+import org.example.config.CalculatorConfig;
+import org.example.config.OperatorConfig;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.operators.factory.OperatorRegistry;
+import org.example.core.operators.impl.AdditionOperator;
+import org.example.core.operators.impl.DivisionOperator;
+import org.example.core.operators.impl.MultiplicationOperator;
+import org.example.core.operators.impl.SubtractionOperator;
+import org.example.core.operators.impl.UnaryMinusOperator;
+import org.example.core.operators.impl.UnaryPlusOperator;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+
+import java.util.List;
+
+/**
+ * ExpressionOptimizer — constant folding and algebraic simplification on the
+ * expression tree, applied once per compiled program.
+ *
+ * <p>Rewrites in {@link OptimizationMode#STRICT} mode give the same value as the
+ * original for every input, infinities and signed zeros included (NaN stays NaN):
+ * folding of built-in operators, {@code +x -> x}, {@code --x -> x},
+ * {@code x*1}, {@code x/1}, {@code x-0}, {@code x+(-0)} {@code -> x},
+ * {@code x-(-y) -> x+y} and {@code x+(-y) -> x-y}.
+ * {@link OptimizationMode#RELAXED} adds {@code x+0 -> x} and {@code x*0 -> 0}.
+ * Only built-in operators are folded or rewritten; registered operators are
+ * treated as opaque, since nothing guarantees they are pure. The simplified tree is
+ * lowered with {@link CommonSubexpressions}, so repeated subtrees are computed once.
+ */
+public final class ExpressionOptimizer {
+
+    /** Trees are walked recursively; larger programs are left as parsed. */
+    private static final int MAX_TOKENS = 4096;
+
+    private static final long NEGATIVE_ZERO = Double.doubleToRawLongBits(-0.0);
+    private static final long POSITIVE_ZERO = Double.doubleToRawLongBits(0.0);
+
+    private final OptimizationMode mode;
+    private final OperatorRegistry operators;
+
+    public ExpressionOptimizer(OptimizationMode mode) {
+        this(mode, OperatorFactory.registry());
+    }
+
+    /**
+     * @param operators registry that rewrites resolve their replacement operators from
+     */
+    public ExpressionOptimizer(OptimizationMode mode, OperatorRegistry operators) {
+        this.mode = mode;
+        this.operators = operators;
+    }
+
+    public static ExpressionOptimizer fromConfig() {
+        return fromConfig(OperatorFactory.registry());
+    }
+
+    public static ExpressionOptimizer fromConfig(OperatorRegistry operators) {
+        return new ExpressionOptimizer(OptimizationMode.parse(CalculatorConfig.optimizerMode()), operators);
+    }
+
+    public OptimizationMode mode() {
+        return mode;
+    }
+
+    /**
+     * Returns the optimized program, keeping the original variable slots so bindings
+     * built for the source stay valid. Malformed programs are returned unchanged.
+     */
+    public RpnProgram optimize(RpnProgram program) {
+        if (mode == OptimizationMode.OFF || program.isEmpty() || program.size() > MAX_TOKENS) {
+            return program;
+        }
+        return ExpressionTrees.fromRpn(program.tokens())
+                .map(this::optimize)
+                .map(root -> lower(root, program.variables()))
+                .orElse(program);
+    }
+
+    private static RpnProgram lower(ExprNode root, List<String> variables) {
+        CommonSubexpressions.Lowering lowering = CommonSubexpressions.lower(root);
+        return RpnProgram.of(lowering.tokens(), variables).withSavedApplications(lowering.savedApplications());
+    }
+
+    public ExprNode optimize(ExprNode node) {
+        if (mode == OptimizationMode.OFF) {
+            return node;
+        }
+        return switch (node) {
+            case ExprNode.Constant constant -> constant;
+            case ExprNode.Variable variable -> variable;
+            case ExprNode.Unary unary -> simplifyUnary(new ExprNode.Unary(unary.token(), optimize(unary.operand())));
+            case ExprNode.Binary binary -> simplifyBinary(
+                    new ExprNode.Binary(binary.token(), optimize(binary.left()), optimize(binary.right())));
+        };
+    }
+
+    // ===== Rewrites =====
+
+    private ExprNode simplifyUnary(ExprNode.Unary node) {
+        Class<?> type = node.operator().getClass();
+        if (!BuiltInOperators.isBuiltIn(node.operator())) {
+            return node;
+        }
+        ExprNode operand = node.operand();
+
+        if (operand instanceof ExprNode.Constant constant) {
+            return new ExprNode.Constant(node.operator().apply(constant.value()));
+        }
+        if (type == UnaryPlusOperator.class) {
+            return operand;
+        }
+        if (type == UnaryMinusOperator.class && isNegation(operand)) {
+            return ((ExprNode.Unary) operand).operand();
+        }
+        return node;
+    }
+
+    private ExprNode simplifyBinary(ExprNode.Binary node) {
+        Class<?> type = node.operator().getClass();
+        if (!BuiltInOperators.isBuiltIn(node.operator())) {
+            return node;
+        }
+        ExprNode left = node.left();
+        ExprNode right = node.right();
+
+        if (left instanceof ExprNode.Constant l && right instanceof ExprNode.Constant r) {
+            return new ExprNode.Constant(node.operator().apply(l.value(), r.value()));
+        }
+
+        if (type == AdditionOperator.class) {
+            return simplifyAddition(node, left, right);
+        }
+        if (type == SubtractionOperator.class) {
+            return simplifySubtraction(node, left, right);
+        }
+        if (type == MultiplicationOperator.class) {
+            return simplifyMultiplication(node, left, right);
+        }
+        if (type == DivisionOperator.class && isConstant(right, 1.0)) {
+            return left;
+        }
+        return node;
+    }
+
+    private ExprNode simplifyAddition(ExprNode.Binary node, ExprNode left, ExprNode right) {
+        // x + -0 == x exactly; x + 0 turns -0 into +0.
+        if (hasBits(right, NEGATIVE_ZERO)) return left;
+        if (hasBits(left, NEGATIVE_ZERO)) return right;
+        if (mode == OptimizationMode.RELAXED) {
+            if (hasBits(right, POSITIVE_ZERO)) return left;
+            if (hasBits(left, POSITIVE_ZERO)) return right;
+        }
+        // x + (-y) == x - y: IEEE subtraction is addition of the negation.
+        if (isNegation(right)) {
+            return retarget(node, OperatorConfig.minusOperator(), SubtractionOperator.class,
+                    left, ((ExprNode.Unary) right).operand());
+        }
+        return node;
+    }
+
+    private ExprNode simplifySubtraction(ExprNode.Binary node, ExprNode left, ExprNode right) {
+        if (hasBits(right, POSITIVE_ZERO)) return left;
+        if (mode == OptimizationMode.RELAXED && hasBits(right, NEGATIVE_ZERO)) return left;
+        if (isNegation(right)) {
+            return retarget(node, OperatorConfig.plusOperator(), AdditionOperator.class,
+                    left, ((ExprNode.Unary) right).operand());
+        }
+        return node;
+    }
+
+    private ExprNode simplifyMultiplication(ExprNode.Binary node, ExprNode left, ExprNode right) {
+        if (isConstant(right, 1.0)) return left;
+        if (isConstant(left, 1.0)) return right;
+        if (mode == OptimizationMode.RELAXED) {
+            // Ignores NaN, infinities and the sign of zero.
+            if (isConstant(right, 0.0) || isConstant(left, 0.0)) return new ExprNode.Constant(0.0);
+        }
+        return node;
+    }
+
+    // ===== Private Helpers =====
+
+    private static boolean isNegation(ExprNode node) {
+        return node instanceof ExprNode.Unary unary && unary.operator().getClass() == UnaryMinusOperator.class;
+    }
+
+    /**
+     * Numeric comparison: true for both zeros when {@code expected} is zero.
+     */
+    private static boolean isConstant(ExprNode node, double expected) {
+        return node instanceof ExprNode.Constant constant && constant.value() == expected;
+    }
+
+    private static boolean hasBits(ExprNode node, long bits) {
+        return node instanceof ExprNode.Constant constant && Double.doubleToRawLongBits(constant.value()) == bits;
+    }
+
+    /**
+     * Rebuilds {@code node} around the operator registered under {@code symbol}; keeps
+     * {@code node} when that symbol is no longer bound to the built-in {@code type}.
+     */
+    private ExprNode retarget(ExprNode.Binary node, String symbol, Class<? extends Operator> type,
+                              ExprNode left, ExprNode right) {
+        Operator op = operators.lookup(symbol);
+        if (op == null || op.getClass() != type) {
+            return node;
+        }
+        return new ExprNode.Binary(Token.operator(symbol, op), left, right);
+    }
+}
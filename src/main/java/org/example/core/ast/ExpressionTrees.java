@@ -0,0 +1,88 @@
+package org.example.core.ast;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.core.operators.base.BinaryOperator;
+import org.example.core.operators.base.UnaryOperator;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ExpressionTrees — conversions between postfix token sequences and {@link ExprNode} trees.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExpressionTrees {
+
+    /**
+     * Rebuilds the tree of a postfix sequence; loads of a temporary share the stored
+     * subtree. Returns empty when the sequence is not a single well-formed expression
+     * (missing operands, leftover values, unexpected tokens), so the caller can keep
+     * the original and let the evaluator report it.
+     */
+    public static Optional<ExprNode> fromRpn(List<Token> rpn) {
+        Deque<ExprNode> operands = new ArrayDeque<>();
+        Map<Integer, ExprNode> temporaries = new HashMap<>();
+
+        for (Token token : rpn) {
+            if (token.operator() instanceof BinaryOperator) {
+                if (operands.size() < 2) {
+                    return Optional.empty();
+                }
+                ExprNode right = operands.pop();
+                ExprNode left = operands.pop();
+                operands.push(new ExprNode.Binary(token, left, right));
+            } else if (token.operator() instanceof UnaryOperator) {
+                if (operands.isEmpty()) {
+                    return Optional.empty();
+                }
+                operands.push(new ExprNode.Unary(token, operands.pop()));
+            } else if (token.operator() == null && token.is(TokenKind.NUMBER)) {
+                operands.push(new ExprNode.Constant(token.value()));
+            } else if (token.operator() == null && (token.is(TokenKind.VARIABLE) || token.is(TokenKind.IDENTIFIER))) {
+                operands.push(new ExprNode.Variable(token.text()));
+            } else if (token.is(TokenKind.STORE) && !operands.isEmpty()) {
+                temporaries.put(token.slot(), operands.peek());
+            } else if (token.is(TokenKind.LOAD) && temporaries.containsKey(token.slot())) {
+                operands.push(temporaries.get(token.slot()));
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        return operands.size() == 1 ? Optional.of(operands.pop()) : Optional.empty();
+    }
+
+    /**
+     * Lowers a tree to postfix order; variables come out as identifiers, to be
+     * resolved to slots by {@code RpnProgram}.
+     */
+    public static List<Token> toRpn(ExprNode root) {
+        List<Token> out = new ArrayList<>();
+        emit(root, out);
+        return out;
+    }
+
+    private static void emit(ExprNode node, List<Token> out) {
+        switch (node) {
+            case ExprNode.Constant constant -> out.add(Token.number(Double.toString(constant.value()), constant.value()));
+            case ExprNode.Variable variable -> out.add(Token.identifier(variable.name()));
+            case ExprNode.Unary unary -> {
+                emit(unary.operand(), out);
+                out.add(unary.token());
+            }
+            case ExprNode.Binary binary -> {
+                emit(binary.left(), out);
+                emit(binary.right(), out);
+                out.add(binary.token());
+            }
+        }
+    }
+}
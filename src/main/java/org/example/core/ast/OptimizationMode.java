@@ -0,0 +1,25 @@
+package org.example.core.ast;
+
+import java.util.Locale;
+
+/**
+ * How far {@link ExpressionOptimizer} may rewrite an expression.
+ */
+public enum OptimizationMode {
+
+    /** Programs are evaluated exactly as parsed. */
+    OFF,
+
+    /** Only rewrites that preserve the IEEE 754 result for every input, signed zeros included. */
+    STRICT,
+
+    /**
+     * Also {@code x+0 -> x} and {@code x*0 -> 0}, which differ from IEEE 754 for
+     * {@code -0}, infinities and NaN.
+     */
+    RELAXED;
+
+    public static OptimizationMode parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
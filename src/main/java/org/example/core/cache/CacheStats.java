@@ -0,0 +1,16 @@
+package org.example.core.cache;
+
+/**
+ * Point-in-time view of {@link ExpressionCache} counters.
+ */
+public record CacheStats(long hits, long misses, long evictions, int size, int capacity) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
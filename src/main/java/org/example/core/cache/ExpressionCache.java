@@ -0,0 +1,100 @@
+package org.example.core.cache;
+
+import org.example.core.evaluation.CompiledExpression;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ExpressionCache — bounded LRU cache of compiled expressions keyed by source text.
+ * Compilation runs outside the lock, so a slow compile never blocks readers of other entries.
+ * A capacity of zero disables caching while still counting misses.
+ */
+public final class ExpressionCache {
+
+    private final int capacity;
+    private final Map<String, CompiledExpression> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpressionCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cache capacity must not be negative: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledExpression> eldest) {
+                boolean evict = size() > ExpressionCache.this.capacity;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public CompiledExpression get(String key, Function<String, CompiledExpression> compiler) {
+        CompiledExpression cached = getIfPresent(key);
+        return cached != null ? cached : put(key, compiler.apply(key));
+    }
+
+    /**
+     * Returns the cached expression or {@code null}, counting the lookup as a hit or miss.
+     */
+    public CompiledExpression getIfPresent(String key) {
+        CompiledExpression cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * Stores the expression unless another thread cached one first; returns the winner.
+     */
+    public CompiledExpression put(String key, CompiledExpression compiled) {
+        return store(key, compiled);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public CacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size, capacity);
+    }
+
+    // ===== Private Helpers =====
+
+    private CompiledExpression lookup(String key) {
+        if (capacity == 0) {
+            return null;
+        }
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private CompiledExpression store(String key, CompiledExpression compiled) {
+        if (capacity == 0) {
+            return compiled;
+        }
+        synchronized (entries) {
+            CompiledExpression raced = entries.putIfAbsent(key, compiled);
+            return raced != null ? raced : compiled;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.core.evaluation;
+
+/**
+ * Failure of a single entry in a batch evaluation.
+ */
+public record BatchError(int index, String input, RuntimeException error) {
+}
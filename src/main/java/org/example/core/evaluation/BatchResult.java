@@ -0,0 +1,64 @@
+package org.example.core.evaluation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BatchResult — primitive results of a batch evaluation in input order.
+ * Failed entries hold {@code NaN} in {@link #values()} and are described by the
+ * sparse error side channel, sorted by index.
+ */
+public final class BatchResult {
+
+    private final double[] values;
+    private final BatchError[] errors;
+
+    BatchResult(double[] values, Collection<BatchError> errors) {
+        this.values = values;
+        this.errors = errors.toArray(new BatchError[0]);
+        Arrays.sort(this.errors, Comparator.comparingInt(BatchError::index));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Result array owned by this batch; returned without copying to avoid doubling memory on large jobs.
+     */
+    public double[] values() {
+        return values;
+    }
+
+    public double valueAt(int index) {
+        return values[index];
+    }
+
+    public boolean hasErrors() {
+        return errors.length > 0;
+    }
+
+    public int errorCount() {
+        return errors.length;
+    }
+
+    public List<BatchError> errors() {
+        return List.of(errors);
+    }
+
+    public Optional<BatchError> errorAt(int index) {
+        int lo = 0;
+        int hi = errors.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int found = errors[mid].index();
+            if (found == index) return Optional.of(errors[mid]);
+            if (found < index) lo = mid + 1;
+            else hi = mid - 1;
+        }
+        return Optional.empty();
+    }
+}
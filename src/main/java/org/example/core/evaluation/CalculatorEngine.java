@@ -1,22 +1,271 @@
 package org.example.core.evaluation;
 
-import lombok.RequiredArgsConstructor;
+import org.example.config.CalculatorConfig;
+import org.example.core.ast.ExpressionOptimizer;
+import org.example.core.ast.OptimizationMode;
+import org.example.core.cache.CacheStats;
+import org.example.core.cache.ExpressionCache;
+import org.example.core.exception.InvalidExpressionException;
+import org.example.core.metrics.EvaluateEvent;
+import org.example.core.metrics.Metrics;
+import org.example.core.metrics.Stage;
+import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.operators.factory.OperatorRegistry;
+import org.example.core.parser.ExpressionCompiler;
+import org.example.core.parser.ParseResult;
 import org.example.core.parser.RpnParser;
 import org.example.core.parser.ExpressionParser;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
-@RequiredArgsConstructor
 public class CalculatorEngine implements EvaluationEngine {
 
-    private final ExpressionParser expressionParser;
-    private final RpnParser rpnConverter;
+    private static final double[] NO_BINDINGS = new double[0];
+
+    private final ExpressionCompiler compiler;
     private final EvaluationAlgorithm evaluationAlgorithm;
+    private final ExpressionCache cache;
+    private volatile ForkJoinPool batchPool;
+
+    public CalculatorEngine(ExpressionParser expressionParser,
+                            RpnParser rpnConverter,
+                            EvaluationAlgorithm evaluationAlgorithm) {
+        this(expressionParser, rpnConverter, evaluationAlgorithm,
+                new ExpressionCache(CalculatorConfig.cacheCapacity()));
+    }
+
+    public CalculatorEngine(ExpressionParser expressionParser,
+                            RpnParser rpnConverter,
+                            EvaluationAlgorithm evaluationAlgorithm,
+                            ExpressionCache cache) {
+        this(expressionParser, rpnConverter, evaluationAlgorithm, cache, OperatorFactory.registry());
+    }
+
+    public CalculatorEngine(ExpressionParser expressionParser,
+                            RpnParser rpnConverter,
+                            EvaluationAlgorithm evaluationAlgorithm,
+                            OperatorRegistry operators) {
+        this(expressionParser, rpnConverter, evaluationAlgorithm,
+                new ExpressionCache(CalculatorConfig.cacheCapacity()), operators);
+    }
+
+    /**
+     * @param operators dialect used by the optimizer; the lexer and RPN parser passed in
+     *                  should be built on the same registry. Evaluation needs no registry,
+     *                  since compiled tokens carry their resolved operator instances.
+     */
+    public CalculatorEngine(ExpressionParser expressionParser,
+                            RpnParser rpnConverter,
+                            EvaluationAlgorithm evaluationAlgorithm,
+                            ExpressionCache cache,
+                            OperatorRegistry operators) {
+        ExpressionOptimizer optimizer = evaluationAlgorithm.allowsConstantFolding()
+                ? ExpressionOptimizer.fromConfig(operators)
+                : new ExpressionOptimizer(OptimizationMode.OFF, operators);
+        this.compiler = new ExpressionCompiler(expressionParser, rpnConverter, optimizer);
+        this.evaluationAlgorithm = evaluationAlgorithm;
+        this.cache = cache;
+    }
 
     @Override
     public double evaluate(String input) {
-        List<String> rpnTokens = rpnConverter.toRpn(expressionParser.parse(input));
-        Deque<Double> stack = new ArrayDeque<>();
-        return evaluationAlgorithm.execute(new TokenIterator(rpnTokens), stack);
+        return evaluate(compile(input));
+    }
+
+    /**
+     * Evaluates an already compiled expression, timed as the evaluation stage.
+     */
+    public double evaluate(CompiledExpression expression) {
+        EvaluateEvent event = new EvaluateEvent();
+        event.begin();
+        long start = Metrics.start();
+        try {
+            return expression.evaluate();
+        } finally {
+            Metrics.record(Stage.EVALUATE, start);
+            event.complete(expression.getSource().length(), expression.getProgram().size());
+        }
+    }
+
+    /**
+     * Validates and compiles the expression in a single scan; repeated inputs are
+     * served from the cache without lexing, validation or parsing.
+     *
+     * @throws InvalidExpressionException when the expression is rejected
+     */
+    public CompiledExpression compile(String input) {
+        ParseResult<CompiledExpression> result = tryCompile(input);
+        if (result instanceof ParseResult.Failure<CompiledExpression> failure) {
+            throw new InvalidExpressionException(failure.diagnostic());
+        }
+        return ((ParseResult.Success<CompiledExpression>) result).value();
+    }
+
+    /**
+     * Like {@link #compile(String)}, but reports rejected input as a diagnostic
+     * instead of an exception. Only successful compilations are cached.
+     */
+    public ParseResult<CompiledExpression> tryCompile(String input) {
+        if (input == null) {
+            return compileUncached(null);
+        }
+
+        CompiledExpression cached = cache.getIfPresent(input);
+        if (cached != null) {
+            return ParseResult.success(cached);
+        }
+
+        ParseResult<CompiledExpression> result = compileUncached(input);
+        if (result instanceof ParseResult.Success<CompiledExpression> success) {
+            return ParseResult.success(cache.put(input, success.value()));
+        }
+        return result;
+    }
+
+    /**
+     * Starts an expression that is fed piece by piece, e.g. one REPL line at a time;
+     * see {@link ExpressionCompiler.Session}.
+     */
+    public ExpressionCompiler.Session session() {
+        return compiler.session();
+    }
+
+    /**
+     * Completes a piecewise expression. A cached compilation of the same source is
+     * reused; otherwise the session's remaining work is done and the result cached.
+     */
+    public ParseResult<CompiledExpression> tryCompile(ExpressionCompiler.Session session) {
+        String source = session.source();
+        CompiledExpression cached = session.failed() ? null : cache.getIfPresent(source);
+        if (cached != null) {
+            return ParseResult.success(cached);
+        }
+
+        ParseResult<CompiledExpression> result = session.finish()
+                .map(program -> new CompiledExpression(source, program, evaluationAlgorithm));
+        if (result instanceof ParseResult.Success<CompiledExpression> success) {
+            return ParseResult.success(cache.put(source, success.value()));
+        }
+        return result;
+    }
+
+    // ===== Batch Evaluation =====
+
+    /**
+     * Evaluates the inputs on the configured batch pool; small batches run sequentially
+     * on the calling thread so splitting overhead does not dominate.
+     */
+    @Override
+    public BatchResult evaluateAll(List<String> inputs) {
+        return evaluateAll(inputs, batchPool());
+    }
+
+    public BatchResult evaluateAll(List<String> inputs, ForkJoinPool pool) {
+        List<String> source = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+        int size = source.size();
+        double[] values = new double[size];
+        Queue<BatchError> errors = new ConcurrentLinkedQueue<>();
+
+        if (size < CalculatorConfig.batchSequentialThreshold() || pool.getParallelism() <= 1) {
+            evaluateRange(source, values, 0, size, errors);
+        } else {
+            int chunkSize = Math.max(1, CalculatorConfig.batchChunkSize());
+            pool.invoke(new BatchTask(source, values, 0, size, chunkSize, errors));
+        }
+        return new BatchResult(values, errors);
+    }
+
+    public CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    private void evaluateRange(List<String> inputs, double[] values, int from, int to,
+                               Collection<BatchError> errors) {
+        double[] stack = new double[16];
+
+        for (int i = from; i < to; i++) {
+            String input = inputs.get(i);
+            try {
+                CompiledExpression expression = compile(input);
+                int depth = expression.stackSize();
+                if (stack.length < depth) {
+                    stack = new double[depth];
+                }
+                long start = Metrics.start();
+                values[i] = expression.evaluate(NO_BINDINGS, stack);
+                Metrics.record(Stage.EVALUATE, start);
+            } catch (RuntimeException e) {
+                values[i] = Double.NaN;
+                errors.add(new BatchError(i, input, e));
+            }
+        }
+    }
+
+    private ForkJoinPool batchPool() {
+        int parallelism = CalculatorConfig.batchParallelism();
+        if (parallelism <= 0) {
+            return ForkJoinPool.commonPool();
+        }
+
+        ForkJoinPool pool = batchPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = batchPool;
+                if (pool == null) {
+                    pool = new ForkJoinPool(parallelism);
+                    batchPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    private ParseResult<CompiledExpression> compileUncached(String input) {
+        return compiler.compile(input)
+                .map(program -> new CompiledExpression(input, program, evaluationAlgorithm));
+    }
+
+    /**
+     * Splits an index range in halves until it fits one chunk; each leaf writes
+     * into its own slice of the result array, so ordering stays deterministic.
+     */
+    private final class BatchTask extends RecursiveAction {
+
+        private final List<String> inputs;
+        private final double[] values;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Collection<BatchError> errors;
+
+        BatchTask(List<String> inputs, double[] values, int from, int to, int chunkSize,
+                  Collection<BatchError> errors) {
+            this.inputs = inputs;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.errors = errors;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                evaluateRange(inputs, values, from, to, errors);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new BatchTask(inputs, values, from, mid, chunkSize, errors),
+                    new BatchTask(inputs, values, mid, to, chunkSize, errors)
+            );
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package org.example.core.evaluation;
+
+import org.example.core.exception.EvaluationException;
+import org.example.core.parser.RpnProgram;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * CompiledExpression — immutable, pre-parsed form of an infix expression.
+ * Keeps the RPN program so repeated evaluations skip lexing and parsing.
+ * Variables are bound by slot through a {@code double[]}, so one compiled formula
+ * can be evaluated across many parameter sets without map lookups.
+ * Safe to share between threads: every evaluation works on its own operand stack.
+ */
+public final class CompiledExpression {
+
+    private static final double[] NO_BINDINGS = new double[0];
+
+    private final String source;
+    private final RpnProgram program;
+    private final PreparedProgram prepared;
+
+    CompiledExpression(String source, RpnProgram program, EvaluationAlgorithm algorithm) {
+        this.source = source;
+        this.program = Objects.requireNonNull(program, "program");
+        this.prepared = Objects.requireNonNull(algorithm, "algorithm").prepare(program);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public RpnProgram getProgram() {
+        return program;
+    }
+
+    /**
+     * Operator applications removed by computing shared subexpressions once.
+     */
+    public int savedApplications() {
+        return program.savedApplications();
+    }
+
+    // ===== Variables =====
+
+    /**
+     * Variable names indexed by their binding slot.
+     */
+    public List<String> variables() {
+        return program.variables();
+    }
+
+    public int slotOf(String variable) {
+        int slot = program.slotOf(variable);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown variable: " + variable);
+        }
+        return slot;
+    }
+
+    /**
+     * Builds a bindings array from named values; meant for setup code, not hot loops.
+     */
+    public double[] bindings(Map<String, Double> values) {
+        double[] bindings = new double[program.variableCount()];
+        for (int slot = 0; slot < bindings.length; slot++) {
+            String name = program.variables().get(slot);
+            Double value = values.get(name);
+            if (value == null) {
+                throw new EvaluationException("Unbound variable: " + name);
+            }
+            bindings[slot] = value;
+        }
+        return bindings;
+    }
+
+    // ===== Evaluation =====
+
+    public double evaluate() {
+        return evaluate(NO_BINDINGS);
+    }
+
+    public double evaluate(double[] bindings) {
+        return evaluate(bindings, new double[stackSize()]);
+    }
+
+    /**
+     * Scratch stack size at which the backend evaluates without allocating; at least
+     * {@link RpnProgram#maxStackDepth()}.
+     */
+    public int stackSize() {
+        return prepared.stackSize(program.maxStackDepth());
+    }
+
+    /**
+     * Evaluates on a caller-owned scratch stack, letting tight loops reuse one
+     * array of at least {@link RpnProgram#maxStackDepth()} slots, ideally
+     * {@link #stackSize()}.
+     */
+    public double evaluate(double[] bindings, double[] stack) {
+        if (bindings.length < program.variableCount()) {
+            throw new EvaluationException("Unbound variable: " + program.variables().get(bindings.length));
+        }
+        if (stack.length < program.maxStackDepth()) {
+            throw new IllegalArgumentException("Stack needs at least " + program.maxStackDepth() + " slots");
+        }
+        return prepared.evaluate(bindings, stack);
+    }
+}
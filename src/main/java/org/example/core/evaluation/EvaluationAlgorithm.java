@@ -1,7 +1,45 @@
 package org.example.core.evaluation;
 
+import org.example.core.exception.EvaluationException;
+import org.example.core.parser.RpnProgram;
+
+import java.util.ArrayDeque;
 import java.util.Deque;
 
 public interface EvaluationAlgorithm {
     double execute(TokenIterator tokens, Deque<Double> stack);
+
+    /**
+     * Evaluates a parsed program. Variables are read from {@code bindings} by slot;
+     * {@code stack} is caller-supplied scratch space of at least
+     * {@link RpnProgram#maxStackDepth()} slots. Implementations without a primitive
+     * path fall back to the boxed token iteration, which cannot bind variables or
+     * use temporaries.
+     */
+    default double execute(RpnProgram program, double[] bindings, double[] stack) {
+        if (program.variableCount() > 0) {
+            throw new EvaluationException("Variables are not supported by " + getClass().getSimpleName());
+        }
+        if (program.temporaryCount() > 0) {
+            throw new EvaluationException("Shared subexpressions are not supported by " + getClass().getSimpleName());
+        }
+        return execute(new TokenIterator(program.tokens()), new ArrayDeque<>());
+    }
+
+    /**
+     * Turns a program into its executable form once, at compile time. Backends that
+     * generate code override this; the default interprets the program on each call.
+     */
+    default PreparedProgram prepare(RpnProgram program) {
+        return (bindings, stack) -> execute(program, bindings, stack);
+    }
+
+    /**
+     * Whether the optimizer may fold constant subexpressions into rounded doubles before
+     * this backend sees the program. Backends that reason about the decimal literals of
+     * the source return {@code false} and receive programs as parsed.
+     */
+    default boolean allowsConstantFolding() {
+        return true;
+    }
 }
@@ -1,5 +1,34 @@
 package org.example.core.evaluation;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface EvaluationEngine {
     double evaluate(String input);
-}
\ No newline at end of file
+
+    /**
+     * Evaluates independent expressions, keeping results in input order.
+     * A failing entry yields {@code NaN} and an entry in the error side channel
+     * instead of aborting the batch.
+     */
+    default BatchResult evaluateAll(List<String> inputs) {
+        double[] values = new double[inputs.size()];
+        List<BatchError> errors = new ArrayList<>();
+
+        for (int i = 0; i < values.length; i++) {
+            String input = inputs.get(i);
+            try {
+                values[i] = evaluate(input);
+            } catch (RuntimeException e) {
+                values[i] = Double.NaN;
+                errors.add(new BatchError(i, input, e));
+            }
+        }
+        return new BatchResult(values, errors);
+    }
+
+    default BatchResult evaluateAll(Stream<String> inputs) {
+        return evaluateAll(inputs.toList());
+    }
+}
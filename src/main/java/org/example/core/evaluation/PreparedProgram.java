@@ -0,0 +1,19 @@
+package org.example.core.evaluation;
+
+/**
+ * Executable form of an {@code RpnProgram} produced once by an
+ * {@link EvaluationAlgorithm} at compile time and reused for every evaluation.
+ */
+@FunctionalInterface
+public interface PreparedProgram {
+
+    double evaluate(double[] bindings, double[] stack);
+
+    /**
+     * Scratch {@code stack} slots that keep evaluation allocation-free, for a program
+     * of the given depth; backends that track state beside each value ask for more.
+     */
+    default int stackSize(int maxStackDepth) {
+        return maxStackDepth;
+    }
+}
@@ -6,9 +6,12 @@ import org.example.core.exception.UnknownOperatorException;
 import org.example.core.operators.base.BinaryOperator;
 import org.example.core.operators.base.Operator;
 import org.example.core.operators.base.UnaryOperator;
-import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
 
 import java.util.Deque;
+import java.util.List;
 
 @RequiredArgsConstructor
 public class RpnEvaluationAlgorithm implements EvaluationAlgorithm {
@@ -24,19 +27,71 @@ public class RpnEvaluationAlgorithm implements EvaluationAlgorithm {
         return stack.isEmpty() ? Double.NaN : stack.peek();
     }
 
-    private void processToken(Deque<Double> stack, String token) {
-        OperatorFactory.get(token)
-                .ifPresentOrElse(op -> {
-                    double[] args = popOperands(stack, op.getOperandCount());
-                    stack.push(applyOperator(op, args));
-                }, () -> pushNumber(stack, token));
+    /**
+     * Unboxed path: operands live in a pre-sized {@code double[]} and operators are
+     * applied in place, so no intermediate arrays or wrappers are allocated.
+     */
+    @Override
+    public double execute(RpnProgram program, double[] bindings, double[] stack) {
+        List<Token> code = program.tokens();
+        int size = code.size();
+        if (size == 0) return Double.NaN;
+
+        int temps = program.operandDepth();
+        int sp = 0;
+        for (int i = 0; i < size; i++) {
+            Token token = code.get(i);
+            Operator op = token.operator();
+
+            if (op instanceof BinaryOperator binary) {
+                requireOperands(sp, 2);
+                sp--;
+                stack[sp - 1] = binary.apply(stack[sp - 1], stack[sp]);
+            } else if (op instanceof UnaryOperator unary) {
+                requireOperands(sp, 1);
+                stack[sp - 1] = unary.apply(stack[sp - 1]);
+            } else if (op != null) {
+                throw new UnknownOperatorException(op.getClass().getSimpleName());
+            } else if (token.is(TokenKind.NUMBER)) {
+                stack[sp++] = token.value();
+            } else if (token.is(TokenKind.VARIABLE)) {
+                stack[sp++] = bindings[token.slot()];
+            } else if (token.is(TokenKind.LOAD)) {
+                stack[sp++] = stack[temps + token.slot()];
+            } else if (token.is(TokenKind.STORE)) {
+                requireOperands(sp, 1);
+                stack[temps + token.slot()] = stack[sp - 1];
+            } else {
+                throw new EvaluationException("Invalid token in RPN: " + token.text());
+            }
+        }
+
+        return sp == 0 ? Double.NaN : stack[sp - 1];
     }
 
-    private void pushNumber(Deque<Double> stack, String token) {
-        try {
-            stack.push(Double.parseDouble(token));
-        } catch (NumberFormatException e) {
-            throw new EvaluationException("Invalid token in RPN: " + token);
+    private void processToken(Deque<Double> stack, Token token) {
+        if (token.isOperator()) {
+            Operator op = token.operator();
+            double[] args = popOperands(stack, op.getOperandCount());
+            stack.push(applyOperator(op, args));
+            return;
+        }
+        pushNumber(stack, token);
+    }
+
+    private void pushNumber(Deque<Double> stack, Token token) {
+        if (token.is(TokenKind.VARIABLE) || token.is(TokenKind.IDENTIFIER)) {
+            throw new EvaluationException("Unbound variable: " + token.text());
+        }
+        if (!token.is(TokenKind.NUMBER)) {
+            throw new EvaluationException("Invalid token in RPN: " + token.text());
+        }
+        stack.push(token.value());
+    }
+
+    private void requireOperands(int available, int count) {
+        if (available < count) {
+            throw new EvaluationException("Insufficient operands for operator");
         }
     }
 
@@ -0,0 +1,12 @@
+package org.example.core.evaluation;
+
+import org.example.core.parser.RpnProgram;
+
+/**
+ * TierUpEvent — a program was promoted from the baseline to the optimizing tier.
+ *
+ * @param invocations   evaluations observed before promotion
+ * @param compileNanos  time spent preparing the optimized form
+ */
+public record TierUpEvent(RpnProgram program, String tier, long invocations, long compileNanos) {
+}
@@ -0,0 +1,23 @@
+package org.example.core.evaluation;
+
+/**
+ * Receives {@link TierUpEvent}s from a {@link TieredEvaluationAlgorithm}.
+ * Called synchronously on the evaluating thread that triggered the promotion.
+ */
+@FunctionalInterface
+public interface TierUpListener {
+
+    TierUpListener NONE = event -> { };
+
+    void onTierUp(TierUpEvent event);
+
+    /**
+     * Reports promotions to the platform logger at {@code DEBUG} level.
+     */
+    static TierUpListener logging() {
+        System.Logger logger = System.getLogger(TieredEvaluationAlgorithm.class.getName());
+        return event -> logger.log(System.Logger.Level.DEBUG,
+                () -> "Tier-up to " + event.tier() + " after " + event.invocations()
+                        + " evaluations (" + event.compileNanos() / 1_000 + " us): " + event.program().tokens());
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.core.evaluation;
+
+import org.example.core.parser.RpnProgram;
+
+import java.util.Deque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TieredEvaluationAlgorithm — starts every program on a cheap baseline tier and
+ * promotes it to an optimizing tier once it has been evaluated
+ * {@code threshold} times, much like the JVM's own tiered compilation.
+ * Rarely used expressions never pay for code generation; hot ones get it after a
+ * short warm-up. A threshold of {@code 0} promotes at prepare time.
+ */
+public final class TieredEvaluationAlgorithm implements EvaluationAlgorithm {
+
+    private final EvaluationAlgorithm baseline;
+    private final EvaluationAlgorithm optimizing;
+    private final int threshold;
+    private final TierUpListener listener;
+    private final LongAdder tierUps = new LongAdder();
+
+    public TieredEvaluationAlgorithm(EvaluationAlgorithm baseline, EvaluationAlgorithm optimizing,
+                                     int threshold, TierUpListener listener) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Tier threshold must not be negative: " + threshold);
+        }
+        this.baseline = baseline;
+        this.optimizing = optimizing;
+        this.threshold = threshold;
+        this.listener = listener;
+    }
+
+    @Override
+    public double execute(TokenIterator tokens, Deque<Double> stack) {
+        return baseline.execute(tokens, stack);
+    }
+
+    @Override
+    public double execute(RpnProgram program, double[] bindings, double[] stack) {
+        return baseline.execute(program, bindings, stack);
+    }
+
+    @Override
+    public PreparedProgram prepare(RpnProgram program) {
+        TieredProgram tiered = new TieredProgram(program, baseline.prepare(program));
+        if (threshold == 0) {
+            tiered.tierUp();
+        }
+        return tiered;
+    }
+
+    /**
+     * Number of programs promoted so far.
+     */
+    public long tierUps() {
+        return tierUps.sum();
+    }
+
+    /**
+     * Counts invocations until promotion, then forwards to the optimized program.
+     * The counter is deliberately unsynchronized: lost updates under contention only
+     * delay promotion slightly, and keep the hot path free of atomic operations.
+     */
+    private final class TieredProgram implements PreparedProgram {
+
+        private final RpnProgram program;
+        private volatile PreparedProgram delegate;
+        private volatile boolean promoted;
+        private long invocations;
+
+        TieredProgram(RpnProgram program, PreparedProgram delegate) {
+            this.program = program;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public double evaluate(double[] bindings, double[] stack) {
+            if (!promoted && ++invocations >= threshold) {
+                return tierUp().evaluate(bindings, stack);
+            }
+            return delegate.evaluate(bindings, stack);
+        }
+
+        @Override
+        public int stackSize(int maxStackDepth) {
+            return delegate.stackSize(maxStackDepth);
+        }
+
+        private synchronized PreparedProgram tierUp() {
+            if (!promoted) {
+                long start = System.nanoTime();
+                delegate = optimizing.prepare(program);
+                long elapsed = System.nanoTime() - start;
+                promoted = true;
+                tierUps.increment();
+                listener.onTierUp(new TierUpEvent(program, optimizing.getClass().getSimpleName(), invocations, elapsed));
+            }
+            return delegate;
+        }
+    }
+}
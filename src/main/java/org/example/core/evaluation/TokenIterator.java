@@ -1,16 +1,25 @@
 package org.example.core.evaluation;
 
 import lombok.RequiredArgsConstructor;
+import org.example.core.operators.factory.OperatorSnapshot;
+import org.example.core.token.Token;
+import org.example.core.token.Tokens;
 
 import java.util.Iterator;
 import java.util.List;
 
 @RequiredArgsConstructor
-public class TokenIterator implements Iterator<String> {
+public class TokenIterator implements Iterator<Token> {
 
-    private final List<String> tokens;
+    private final List<Token> tokens;
     private int index = 0;
 
+    /**
+     * Adapter for RPN sequences still held as text, classified against {@code operators}.
+     */
+    public static TokenIterator ofText(List<String> tokens, OperatorSnapshot operators) {
+        return new TokenIterator(Tokens.classify(tokens, operators));
+    }
 
     @Override
     public boolean hasNext() {
@@ -18,8 +27,8 @@ public class TokenIterator implements Iterator<String> {
     }
 
     @Override
-    public String next() {
+    public Token next() {
         return tokens.get(index++);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package org.example.core.evaluation.bytecode;
+
+import org.example.core.evaluation.EvaluationAlgorithm;
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.evaluation.TokenIterator;
+import org.example.core.operators.base.Operator;
+import org.example.core.parser.RpnProgram;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * BytecodeEvaluationAlgorithm — compiles each program into its own hidden class.
+ * Class bytes come from {@link ExpressionClassGenerator} and are defined with
+ * {@link MethodHandles.Lookup#defineHiddenClass}, so every expression gets a
+ * straight-line {@code evaluate} method the JIT compiles like hand-written code.
+ * Hidden classes are not registered with a class loader and are unloaded once the
+ * compiled expression becomes unreachable (e.g. evicted from the cache).
+ *
+ * <p>Defining a class costs far more than interpreting a short expression a few
+ * times; use it behind {@code TieredEvaluationAlgorithm} unless every expression
+ * is known to be hot.
+ */
+public final class BytecodeEvaluationAlgorithm implements EvaluationAlgorithm {
+
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(void.class, Operator[].class);
+
+    private final ExpressionClassGenerator generator = new ExpressionClassGenerator();
+    private final RpnEvaluationAlgorithm interpreter = new RpnEvaluationAlgorithm();
+
+    @Override
+    public double execute(TokenIterator tokens, Deque<Double> stack) {
+        return interpreter.execute(tokens, stack);
+    }
+
+    @Override
+    public double execute(RpnProgram program, double[] bindings, double[] stack) {
+        return interpreter.execute(program, bindings, stack);
+    }
+
+    @Override
+    public PreparedProgram prepare(RpnProgram program) {
+        return compile(program).orElseGet(() -> interpreter.prepare(program));
+    }
+
+    /**
+     * Generates and defines the class for {@code program}; empty when the program
+     * cannot be compiled, or the JVM rejects the generated class, and must stay
+     * interpreted.
+     */
+    public Optional<PreparedProgram> compile(RpnProgram program) {
+        return generator.generate(program).flatMap(BytecodeEvaluationAlgorithm::define);
+    }
+
+    private static Optional<PreparedProgram> define(ExpressionClassGenerator.GeneratedClass generated) {
+        MethodHandles.Lookup hidden;
+        try {
+            hidden = MethodHandles.lookup().defineHiddenClass(generated.bytes(), true);
+        } catch (LinkageError e) {
+            return Optional.empty();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot define generated expression class", e);
+        }
+        try {
+            return Optional.of((PreparedProgram) hidden.findConstructor(hidden.lookupClass(), CONSTRUCTOR)
+                    .invoke(generated.operators()));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Cannot define generated expression class", t);
+        }
+    }
+}
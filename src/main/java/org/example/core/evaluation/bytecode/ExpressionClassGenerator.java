@@ -0,0 +1,297 @@
+package org.example.core.evaluation.bytecode;
+
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.operators.base.BinaryOperator;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.base.UnaryOperator;
+import org.example.core.operators.impl.AdditionOperator;
+import org.example.core.operators.impl.CosOperator;
+import org.example.core.operators.impl.DivisionOperator;
+import org.example.core.operators.impl.MultiplicationOperator;
+import org.example.core.operators.impl.SinOperator;
+import org.example.core.operators.impl.SubtractionOperator;
+import org.example.core.operators.impl.UnaryMinusOperator;
+import org.example.core.operators.impl.UnaryPlusOperator;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ExpressionClassGenerator — translates an {@link RpnProgram} into the bytes of a class
+ * implementing {@link PreparedProgram}. The RPN maps one-to-one onto the JVM operand
+ * stack, so the generated {@code evaluate} is a single straight-line basic block.
+ *
+ * <p>Built-in operators are inlined ({@code dadd}, {@code dneg}, {@code Math.sin}, ...),
+ * matched by exact class so subclasses overriding {@code apply} are not bypassed.
+ * Any other operator is read from the {@code ops} field and called through
+ * {@code invokeinterface}; its operands are spilled to locals first so the receiver
+ * can be pushed underneath them. Temporaries of shared subexpressions become locals.
+ */
+final class ExpressionClassGenerator {
+
+    static final String CLASS_NAME = "org/example/core/evaluation/bytecode/GeneratedExpression";
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String MATH = "java/lang/Math";
+    private static final String PREPARED = PreparedProgram.class.getName().replace('.', '/');
+    private static final String OPERATOR = Operator.class.getName().replace('.', '/');
+    private static final String BINARY = BinaryOperator.class.getName().replace('.', '/');
+    private static final String UNARY = UnaryOperator.class.getName().replace('.', '/');
+
+    private static final String OPS_FIELD = "ops";
+    private static final String OPS_DESCRIPTOR = "[L" + OPERATOR + ";";
+    static final String CONSTRUCTOR_DESCRIPTOR = "(" + OPS_DESCRIPTOR + ")V";
+    private static final String EVALUATE_DESCRIPTOR = "([D[D)D";
+
+    /** Locals of {@code evaluate}: this, bindings, stack, two spill doubles, then temporaries. */
+    private static final int SPILL_LEFT = 3;
+    private static final int SPILL_RIGHT = 5;
+    private static final int FIRST_TEMPORARY = 7;
+
+    /** Code length, {@code max_stack}, {@code max_locals} and pool count are all u2. */
+    private static final int MAX_U2 = 0xFFFF;
+
+    // ===== Opcodes =====
+    private static final int DCONST_0 = 0x0E;
+    private static final int DCONST_1 = 0x0F;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int LDC2_W = 0x14;
+    private static final int DLOAD = 0x18;
+    private static final int ALOAD_0 = 0x2A;
+    private static final int ALOAD_1 = 0x2B;
+    private static final int DALOAD = 0x31;
+    private static final int AALOAD = 0x32;
+    private static final int DSTORE = 0x39;
+    private static final int DUP2 = 0x5C;
+    private static final int DADD = 0x63;
+    private static final int DSUB = 0x67;
+    private static final int DMUL = 0x6B;
+    private static final int DDIV = 0x6F;
+    private static final int DNEG = 0x77;
+    private static final int DRETURN = 0xAF;
+    private static final int RETURN = 0xB1;
+    private static final int GETFIELD = 0xB4;
+    private static final int PUTFIELD = 0xB5;
+    private static final int INVOKESPECIAL = 0xB7;
+    private static final int INVOKESTATIC = 0xB8;
+    private static final int INVOKEINTERFACE = 0xB9;
+    private static final int CHECKCAST = 0xC0;
+    private static final int WIDE = 0xC4;
+
+    /**
+     * Class bytes plus the operators the generated constructor expects, in
+     * {@code ops} index order.
+     */
+    record GeneratedClass(byte[] bytes, Operator[] operators) {
+    }
+
+    /**
+     * Generates the class, or returns empty for programs that are malformed (operand
+     * underflow, unexpected tokens, no result) or exceed class-file limits; those
+     * stay with the interpreter so its error reporting applies.
+     */
+    Optional<GeneratedClass> generate(RpnProgram program) {
+        if (program.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ClassFile file = new ClassFile(CLASS_NAME, OBJECT, PREPARED);
+        file.addField(ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL, OPS_FIELD, OPS_DESCRIPTOR);
+        file.addMethod(ClassFile.ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, 2, 2, constructor(file));
+
+        Code code = new Code();
+        List<Operator> calls = new ArrayList<>();
+        int depth = 0;
+
+        for (Token token : program.tokens()) {
+            Operator op = token.operator();
+
+            if (op instanceof BinaryOperator binary) {
+                if (depth < 2) {
+                    return Optional.empty();
+                }
+                binary(file, code, binary, calls);
+                depth--;
+            } else if (op instanceof UnaryOperator unary) {
+                if (depth < 1) {
+                    return Optional.empty();
+                }
+                unary(file, code, unary, calls);
+            } else if (op == null && token.is(TokenKind.NUMBER)) {
+                pushDouble(file, code, token.value());
+                depth++;
+            } else if (op == null && token.is(TokenKind.VARIABLE)) {
+                code.op(ALOAD_1);
+                pushInt(file, code, token.slot());
+                code.op(DALOAD);
+                depth++;
+            } else if (token.is(TokenKind.STORE)) {
+                if (depth < 1) {
+                    return Optional.empty();
+                }
+                code.op(DUP2);
+                local(code, DSTORE, temporary(token.slot()));
+            } else if (token.is(TokenKind.LOAD)) {
+                local(code, DLOAD, temporary(token.slot()));
+                depth++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        code.op(DRETURN);
+
+        // Two words per double plus receiver, array and index headroom.
+        int maxStack = 2 * program.operandDepth() + 3;
+        int maxLocals = temporary(program.temporaryCount());
+        if (code.size() > MAX_U2 || maxStack > MAX_U2 || maxLocals > MAX_U2) {
+            return Optional.empty();
+        }
+
+        file.addMethod(ClassFile.ACC_PUBLIC, "evaluate", EVALUATE_DESCRIPTOR, maxStack, maxLocals, code.toByteArray());
+        if (file.poolSize() > MAX_U2) {
+            return Optional.empty();
+        }
+        return Optional.of(new GeneratedClass(file.toByteArray(), calls.toArray(Operator[]::new)));
+    }
+
+    // ===== Operators =====
+
+    private static void binary(ClassFile file, Code code, BinaryOperator op, List<Operator> calls) {
+        Class<?> type = op.getClass();
+        if (type == AdditionOperator.class) {
+            code.op(DADD);
+        } else if (type == SubtractionOperator.class) {
+            code.op(DSUB);
+        } else if (type == MultiplicationOperator.class) {
+            code.op(DMUL);
+        } else if (type == DivisionOperator.class) {
+            code.op(DDIV);
+        } else {
+            local(code, DSTORE, SPILL_RIGHT);
+            local(code, DSTORE, SPILL_LEFT);
+            loadOperator(file, code, op, calls, BINARY);
+            local(code, DLOAD, SPILL_LEFT);
+            local(code, DLOAD, SPILL_RIGHT);
+            code.op(INVOKEINTERFACE).u2(file.interfaceMethodRef(BINARY, "apply", "(DD)D")).u1(5).u1(0);
+        }
+    }
+
+    private static void unary(ClassFile file, Code code, UnaryOperator op, List<Operator> calls) {
+        Class<?> type = op.getClass();
+        if (type == UnaryPlusOperator.class) {
+            return;
+        }
+        if (type == UnaryMinusOperator.class) {
+            code.op(DNEG);
+        } else if (type == SinOperator.class) {
+            code.op(INVOKESTATIC).u2(file.methodRef(MATH, "sin", "(D)D"));
+        } else if (type == CosOperator.class) {
+            code.op(INVOKESTATIC).u2(file.methodRef(MATH, "cos", "(D)D"));
+        } else {
+            local(code, DSTORE, SPILL_LEFT);
+            loadOperator(file, code, op, calls, UNARY);
+            local(code, DLOAD, SPILL_LEFT);
+            code.op(INVOKEINTERFACE).u2(file.interfaceMethodRef(UNARY, "apply", "(D)D")).u1(3).u1(0);
+        }
+    }
+
+    /** Pushes {@code (Contract) this.ops[i]}, registering the operator under index {@code i}. */
+    private static void loadOperator(ClassFile file, Code code, Operator op, List<Operator> calls, String contract) {
+        int index = calls.indexOf(op);
+        if (index < 0) {
+            index = calls.size();
+            calls.add(op);
+        }
+        code.op(ALOAD_0);
+        code.op(GETFIELD).u2(file.fieldRef(CLASS_NAME, OPS_FIELD, OPS_DESCRIPTOR));
+        pushInt(file, code, index);
+        code.op(AALOAD);
+        code.op(CHECKCAST).u2(file.classRef(contract));
+    }
+
+    // ===== Private Helpers =====
+
+    private static byte[] constructor(ClassFile file) {
+        Code code = new Code();
+        code.op(ALOAD_0);
+        code.op(INVOKESPECIAL).u2(file.methodRef(OBJECT, "<init>", "()V"));
+        code.op(ALOAD_0);
+        code.op(ALOAD_1);
+        code.op(PUTFIELD).u2(file.fieldRef(CLASS_NAME, OPS_FIELD, OPS_DESCRIPTOR));
+        code.op(RETURN);
+        return code.toByteArray();
+    }
+
+    private static int temporary(int index) {
+        return FIRST_TEMPORARY + 2 * index;
+    }
+
+    /** {@code dload}/{@code dstore}, widened for local indexes beyond one byte. */
+    private static void local(Code code, int opcode, int index) {
+        if (index <= 0xFF) {
+            code.op(opcode).u1(index);
+        } else {
+            code.op(WIDE).op(opcode).u2(index);
+        }
+    }
+
+    private static void pushDouble(ClassFile file, Code code, double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        if (bits == Double.doubleToRawLongBits(0.0)) {
+            code.op(DCONST_0);
+        } else if (bits == Double.doubleToRawLongBits(1.0)) {
+            code.op(DCONST_1);
+        } else {
+            code.op(LDC2_W).u2(file.doubleConstant(value));
+        }
+    }
+
+    private static void pushInt(ClassFile file, Code code, int value) {
+        if (value <= Byte.MAX_VALUE) {
+            code.op(BIPUSH).u1(value);
+        } else if (value <= Short.MAX_VALUE) {
+            code.op(SIPUSH).u2(value);
+        } else {
+            code.op(LDC_W).u2(file.intConstant(value));
+        }
+    }
+
+    /**
+     * Growable bytecode buffer.
+     */
+    private static final class Code {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        Code u1(int value) {
+            bytes.write(value);
+            return this;
+        }
+
+        Code u2(int value) {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
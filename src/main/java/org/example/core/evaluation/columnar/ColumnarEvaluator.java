@@ -0,0 +1,333 @@
+package org.example.core.evaluation.columnar;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.example.config.CalculatorConfig;
+import org.example.core.exception.EvaluationException;
+import org.example.core.exception.UnknownOperatorException;
+import org.example.core.operators.base.BinaryOperator;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.base.UnaryOperator;
+import org.example.core.operators.impl.AdditionOperator;
+import org.example.core.operators.impl.DivisionOperator;
+import org.example.core.operators.impl.MultiplicationOperator;
+import org.example.core.operators.impl.SubtractionOperator;
+import org.example.core.operators.impl.UnaryMinusOperator;
+import org.example.core.operators.impl.UnaryPlusOperator;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ColumnarEvaluator — runs a compiled program over whole input columns.
+ * Rows are processed in fixed-size chunks; each RPN step is applied to the entire
+ * chunk before moving on. Arithmetic and negation use {@code jdk.incubator.vector}
+ * lanes, other operators (e.g. sin/cos) run as scalar loops over the chunk.
+ * Variable operands are read in place from the input columns and constants stay
+ * scalar, so neither is copied into scratch buffers. Shared subexpressions are
+ * copied once per chunk into a temporary buffer and read from there.
+ *
+ * <p>Requires {@code --add-modules jdk.incubator.vector} at compile and run time.
+ */
+public final class ColumnarEvaluator {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final int chunkSize;
+
+    public ColumnarEvaluator() {
+        this(CalculatorConfig.columnarChunkSize());
+    }
+
+    public ColumnarEvaluator(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Evaluates the program for every row.
+     *
+     * @param columns one column per variable slot, all of the same length
+     */
+    public double[] evaluate(RpnProgram program, double[][] columns) {
+        int rows = columns.length > 0 ? columns[0].length : 0;
+        double[] out = new double[rows];
+        evaluate(program, columns, out);
+        return out;
+    }
+
+    /**
+     * Evaluates the program for {@code out.length} rows into {@code out}.
+     */
+    public void evaluate(RpnProgram program, double[][] columns, double[] out) {
+        int rows = out.length;
+        checkColumns(program, columns, rows);
+
+        if (program.isEmpty()) {
+            Arrays.fill(out, Double.NaN);
+            return;
+        }
+
+        int width = Math.min(chunkSize, Math.max(rows, 1));
+        Operand[] stack = operands(program.operandDepth(), width);
+        Operand[] temporaries = operands(program.temporaryCount(), width);
+
+        for (int base = 0; base < rows; base += width) {
+            int length = Math.min(width, rows - base);
+            int sp = runChunk(program.tokens(), columns, stack, temporaries, base, length);
+            stack[sp - 1].copyTo(out, base, length);
+        }
+    }
+
+    // ===== Chunk Interpreter =====
+
+    private int runChunk(List<Token> code, double[][] columns, Operand[] stack, Operand[] temporaries,
+                         int base, int length) {
+        int sp = 0;
+
+        for (int t = 0, size = code.size(); t < size; t++) {
+            Token token = code.get(t);
+            Operator op = token.operator();
+
+            if (op instanceof BinaryOperator binary) {
+                requireOperands(sp, 2);
+                sp--;
+                applyBinary(binary, stack[sp - 1], stack[sp], length);
+            } else if (op instanceof UnaryOperator unary) {
+                requireOperands(sp, 1);
+                applyUnary(unary, stack[sp - 1], length);
+            } else if (op != null) {
+                throw new UnknownOperatorException(op.getClass().getSimpleName());
+            } else if (token.is(TokenKind.NUMBER)) {
+                stack[sp++].setConstant(token.value());
+            } else if (token.is(TokenKind.VARIABLE)) {
+                stack[sp++].setView(columns[token.slot()], base);
+            } else if (token.is(TokenKind.STORE)) {
+                requireOperands(sp, 1);
+                temporaries[token.slot()].copyFrom(stack[sp - 1], length);
+            } else if (token.is(TokenKind.LOAD)) {
+                stack[sp++].viewOf(temporaries[token.slot()]);
+            } else {
+                throw new EvaluationException("Invalid token in RPN: " + token.text());
+            }
+        }
+
+        if (sp == 0) {
+            throw new EvaluationException("Program produced no value");
+        }
+        return sp;
+    }
+
+    private void applyBinary(BinaryOperator op, Operand left, Operand right, int length) {
+        if (left.constant && right.constant) {
+            left.setConstant(op.apply(left.value, right.value));
+            return;
+        }
+
+        VectorOperators.Binary lanes = vectorOf(op);
+        double[] target = left.buffer;
+
+        if (lanes == null) {
+            for (int i = 0; i < length; i++) {
+                target[i] = op.apply(left.get(i), right.get(i));
+            }
+        } else if (left.constant) {
+            binaryScalarVector(lanes, op, left.value, right.array, right.offset, target, length);
+        } else if (right.constant) {
+            binaryVectorScalar(lanes, op, left.array, left.offset, right.value, target, length);
+        } else {
+            binaryVectorVector(lanes, op, left.array, left.offset, right.array, right.offset, target, length);
+        }
+        left.setView(target, 0);
+    }
+
+    private void applyUnary(UnaryOperator op, Operand operand, int length) {
+        if (op.getClass() == UnaryPlusOperator.class) {
+            return;
+        }
+        if (operand.constant) {
+            operand.setConstant(op.apply(operand.value));
+            return;
+        }
+
+        double[] source = operand.array;
+        int offset = operand.offset;
+        double[] target = operand.buffer;
+
+        if (op.getClass() == UnaryMinusOperator.class) {
+            int i = 0;
+            for (int upper = SPECIES.loopBound(length); i < upper; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, source, offset + i)
+                        .lanewise(VectorOperators.NEG)
+                        .intoArray(target, i);
+            }
+            for (; i < length; i++) {
+                target[i] = -source[offset + i];
+            }
+        } else {
+            // No vector intrinsic (sin, cos, custom operators): scalar loop over the chunk.
+            for (int i = 0; i < length; i++) {
+                target[i] = op.apply(source[offset + i]);
+            }
+        }
+        operand.setView(target, 0);
+    }
+
+    // ===== Vector Kernels =====
+
+    private static void binaryVectorVector(VectorOperators.Binary lanes, BinaryOperator op,
+                                           double[] a, int aOffset, double[] b, int bOffset,
+                                           double[] target, int length) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(length); i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, aOffset + i)
+                    .lanewise(lanes, DoubleVector.fromArray(SPECIES, b, bOffset + i))
+                    .intoArray(target, i);
+        }
+        for (; i < length; i++) {
+            target[i] = op.apply(a[aOffset + i], b[bOffset + i]);
+        }
+    }
+
+    private static void binaryVectorScalar(VectorOperators.Binary lanes, BinaryOperator op,
+                                           double[] a, int aOffset, double b,
+                                           double[] target, int length) {
+        DoubleVector right = DoubleVector.broadcast(SPECIES, b);
+        int i = 0;
+        for (int upper = SPECIES.loopBound(length); i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, aOffset + i)
+                    .lanewise(lanes, right)
+                    .intoArray(target, i);
+        }
+        for (; i < length; i++) {
+            target[i] = op.apply(a[aOffset + i], b);
+        }
+    }
+
+    private static void binaryScalarVector(VectorOperators.Binary lanes, BinaryOperator op,
+                                           double a, double[] b, int bOffset,
+                                           double[] target, int length) {
+        DoubleVector left = DoubleVector.broadcast(SPECIES, a);
+        int i = 0;
+        for (int upper = SPECIES.loopBound(length); i < upper; i += SPECIES.length()) {
+            left.lanewise(lanes, DoubleVector.fromArray(SPECIES, b, bOffset + i))
+                    .intoArray(target, i);
+        }
+        for (; i < length; i++) {
+            target[i] = op.apply(a, b[bOffset + i]);
+        }
+    }
+
+    /**
+     * Lane operation for the built-in arithmetic operators; {@code null} for anything
+     * else, including subclasses that may override {@code apply}.
+     */
+    private static VectorOperators.Binary vectorOf(BinaryOperator op) {
+        Class<?> type = op.getClass();
+        if (type == AdditionOperator.class) return VectorOperators.ADD;
+        if (type == SubtractionOperator.class) return VectorOperators.SUB;
+        if (type == MultiplicationOperator.class) return VectorOperators.MUL;
+        if (type == DivisionOperator.class) return VectorOperators.DIV;
+        return null;
+    }
+
+    // ===== Private Helpers =====
+
+    private static Operand[] operands(int count, int width) {
+        Operand[] operands = new Operand[count];
+        for (int i = 0; i < count; i++) {
+            operands[i] = new Operand(width);
+        }
+        return operands;
+    }
+
+    private static void requireOperands(int available, int count) {
+        if (available < count) {
+            throw new EvaluationException("Insufficient operands for operator");
+        }
+    }
+
+    private static void checkColumns(RpnProgram program, double[][] columns, int rows) {
+        if (columns.length < program.variableCount()) {
+            throw new EvaluationException("Unbound variable: " + program.variables().get(columns.length));
+        }
+        for (int slot = 0; slot < program.variableCount(); slot++) {
+            if (columns[slot].length < rows) {
+                throw new IllegalArgumentException(
+                        "Column for '" + program.variables().get(slot) + "' has fewer than " + rows + " rows");
+            }
+        }
+    }
+
+    /**
+     * One operand-stack entry for the current chunk: either a scalar constant or a
+     * view into an array (an input column or this entry's own scratch buffer).
+     */
+    private static final class Operand {
+
+        private final double[] buffer;
+
+        private boolean constant;
+        private double value;
+        private double[] array;
+        private int offset;
+
+        Operand(int width) {
+            this.buffer = new double[width];
+        }
+
+        void setConstant(double value) {
+            this.constant = true;
+            this.value = value;
+            this.array = null;
+        }
+
+        void setView(double[] array, int offset) {
+            this.constant = false;
+            this.array = array;
+            this.offset = offset;
+        }
+
+        /**
+         * Snapshots {@code source} into this entry's own buffer; used for temporaries,
+         * whose value must survive later writes to stack scratch buffers.
+         */
+        void copyFrom(Operand source, int length) {
+            if (source.constant) {
+                setConstant(source.value);
+            } else {
+                System.arraycopy(source.array, source.offset, buffer, 0, length);
+                setView(buffer, 0);
+            }
+        }
+
+        /**
+         * Reads the current value of {@code source} without copying.
+         */
+        void viewOf(Operand source) {
+            if (source.constant) {
+                setConstant(source.value);
+            } else {
+                setView(source.array, source.offset);
+            }
+        }
+
+        double get(int i) {
+            return constant ? value : array[offset + i];
+        }
+
+        void copyTo(double[] out, int base, int length) {
+            if (constant) {
+                Arrays.fill(out, base, base + length, value);
+            } else {
+                System.arraycopy(array, offset, out, base, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.core.evaluation.methodhandle;
+
+import org.example.core.evaluation.EvaluationAlgorithm;
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.evaluation.TokenIterator;
+import org.example.core.exception.EvaluationException;
+import org.example.core.operators.base.BinaryOperator;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.base.UnaryOperator;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * MethodHandleEvaluationAlgorithm — compiles a program into a single
+ * {@code (double[])double} method handle tree at prepare time.
+ * Operands become constant or array-element handles, and every operator contributes
+ * its concrete {@code apply} method, combined with {@link MethodHandles#filterArguments}.
+ * There is no per-token dispatch left at evaluation time; once the handle is hot the
+ * JIT inlines the whole tree into straight-line code.
+ *
+ * <p>Programs the tree cannot represent (malformed or unknown tokens) fall back to
+ * the interpreter, so errors are reported exactly as {@link RpnEvaluationAlgorithm} does.
+ * So do trees nested deeper than {@value #MAX_TREE_DEPTH} combinators: invoking a handle
+ * recurses once per level, and long chains such as {@code 1+1+...+1} would otherwise
+ * overflow the thread stack at evaluation time.
+ * Handles have no local variables, so a shared subexpression is re-attached at each
+ * {@code LOAD} and computed once per use.
+ */
+public final class MethodHandleEvaluationAlgorithm implements EvaluationAlgorithm {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private static final MethodType EXPRESSION = MethodType.methodType(double.class, double[].class);
+    private static final MethodType BINARY_APPLY = MethodType.methodType(double.class, double.class, double.class);
+    private static final MethodType UNARY_APPLY = MethodType.methodType(double.class, double.class);
+
+    private static final MethodHandle ELEMENT = MethodHandles.arrayElementGetter(double[].class);
+
+    /** Far below the several thousand levels a default 1 MB thread stack survives. */
+    static final int MAX_TREE_DEPTH = 1024;
+
+    private final RpnEvaluationAlgorithm interpreter = new RpnEvaluationAlgorithm();
+
+    @Override
+    public double execute(TokenIterator tokens, Deque<Double> stack) {
+        return interpreter.execute(tokens, stack);
+    }
+
+    @Override
+    public double execute(RpnProgram program, double[] bindings, double[] stack) {
+        return prepare(program).evaluate(bindings, stack);
+    }
+
+    @Override
+    public PreparedProgram prepare(RpnProgram program) {
+        return buildTree(program)
+                .<PreparedProgram>map(HandleProgram::new)
+                .orElseGet(() -> interpreter.prepare(program));
+    }
+
+    // ===== Tree Construction =====
+
+    private Optional<MethodHandle> buildTree(RpnProgram program) {
+        if (program.isEmpty()) {
+            return Optional.of(constant(Double.NaN));
+        }
+
+        Deque<MethodHandle> operands = new ArrayDeque<>();
+        MethodHandle[] temporaries = new MethodHandle[program.temporaryCount()];
+        // Nesting depth of each operand handle, indexed by its stack position.
+        int[] depths = new int[program.size() + 1];
+        int[] temporaryDepths = new int[program.temporaryCount()];
+
+        for (Token token : program.tokens()) {
+            Operator op = token.operator();
+            int top = operands.size();
+
+            if (op instanceof BinaryOperator binary && top >= 2) {
+                MethodHandle right = operands.pop();
+                MethodHandle left = operands.pop();
+                operands.push(combine(binaryApply(binary), left, right));
+                depths[top - 2] = Math.max(depths[top - 2], depths[top - 1]) + 1;
+            } else if (op instanceof UnaryOperator unary && top >= 1) {
+                operands.push(MethodHandles.filterArguments(unaryApply(unary), 0, operands.pop()));
+                depths[top - 1]++;
+            } else if (op == null && token.is(TokenKind.NUMBER)) {
+                operands.push(constant(token.value()));
+                depths[top] = 1;
+            } else if (op == null && token.is(TokenKind.VARIABLE)) {
+                operands.push(MethodHandles.insertArguments(ELEMENT, 1, token.slot()));
+                depths[top] = 1;
+            } else if (token.is(TokenKind.STORE) && top >= 1) {
+                temporaries[token.slot()] = operands.peek();
+                temporaryDepths[token.slot()] = depths[top - 1];
+            } else if (token.is(TokenKind.LOAD) && temporaries[token.slot()] != null) {
+                operands.push(temporaries[token.slot()]);
+                depths[top] = temporaryDepths[token.slot()];
+            } else {
+                return Optional.empty();
+            }
+
+            if (depths[operands.size() - 1] > MAX_TREE_DEPTH) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(operands.peek());
+    }
+
+    /**
+     * {@code (x) -> apply(left(x), right(x))}: filter both parameters of {@code apply},
+     * then merge the two {@code double[]} parameters into one.
+     */
+    private static MethodHandle combine(MethodHandle apply, MethodHandle left, MethodHandle right) {
+        MethodHandle filtered = MethodHandles.filterArguments(apply, 0, left, right);
+        return MethodHandles.permuteArguments(filtered, EXPRESSION, 0, 0);
+    }
+
+    private static MethodHandle constant(double value) {
+        return MethodHandles.dropArguments(MethodHandles.constant(double.class, value), 0, double[].class);
+    }
+
+    private static MethodHandle binaryApply(BinaryOperator op) {
+        return applyHandle(op, BinaryOperator.class, BINARY_APPLY);
+    }
+
+    private static MethodHandle unaryApply(UnaryOperator op) {
+        return applyHandle(op, UnaryOperator.class, UNARY_APPLY);
+    }
+
+    /**
+     * Binds the concrete class's {@code apply}, so the JIT sees a monomorphic target.
+     * Operators whose class is not publicly accessible go through their interface instead.
+     */
+    private static MethodHandle applyHandle(Operator op, Class<?> contract, MethodType type) {
+        try {
+            return LOOKUP.findVirtual(op.getClass(), "apply", type).bindTo(op);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            try {
+                return LOOKUP.findVirtual(contract, "apply", type).bindTo(op);
+            } catch (NoSuchMethodException | IllegalAccessException fallback) {
+                throw new IllegalStateException("Cannot access apply of " + op.getClass().getName(), fallback);
+            }
+        }
+    }
+
+    /**
+     * Record fields are trusted as constants, so a constant {@code HandleProgram}
+     * lets the JIT fold the handle tree into the caller.
+     */
+    private record HandleProgram(MethodHandle handle) implements PreparedProgram {
+
+        @Override
+        public double evaluate(double[] bindings, double[] stack) {
+            try {
+                return (double) handle.invokeExact(bindings);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new EvaluationException("Expression evaluation failed", t);
+            }
+        }
+    }
+}
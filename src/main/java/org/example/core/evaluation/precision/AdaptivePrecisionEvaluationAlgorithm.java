@@ -0,0 +1,374 @@
+package org.example.core.evaluation.precision;
+
+import org.example.config.CalculatorConfig;
+import org.example.core.evaluation.EvaluationAlgorithm;
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.evaluation.TokenIterator;
+import org.example.core.exception.EvaluationException;
+import org.example.core.exception.UnknownOperatorException;
+import org.example.core.metrics.Metrics;
+import org.example.core.operators.base.BinaryOperator;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.base.UnaryOperator;
+import org.example.core.operators.impl.AdditionOperator;
+import org.example.core.operators.impl.DivisionOperator;
+import org.example.core.operators.impl.MultiplicationOperator;
+import org.example.core.operators.impl.SubtractionOperator;
+import org.example.core.operators.impl.UnaryMinusOperator;
+import org.example.core.operators.impl.UnaryPlusOperator;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AdaptivePrecisionEvaluationAlgorithm — evaluates in {@code double} while carrying an
+ * absolute error bound for every stack slot, and re-evaluates the same program in
+ * {@link BigDecimal} only when the bound exceeds the tolerance or a division was
+ * inexact. Exact integer and decimal-friendly arithmetic stays on the fast path.
+ *
+ * <p>Bounds are first order. Literals start with their exact decimal-to-binary
+ * representation error, computed once at prepare time; bindings are exact inputs.
+ * {@code +} and {@code -} add the operand bounds and the exact rounding error (two-sum),
+ * {@code *} adds {@code |a|eb + |b|ea + ea*eb} and the exact rounding error (fma), and
+ * exact divisions propagate {@code (ea + |q|eb) / (|b| - eb)}. {@code sin}, {@code cos}
+ * and registered operators run in {@code double} on both paths and count one ulp,
+ * since a decimal re-run cannot improve them.
+ *
+ * <p>Non-finite results are returned as computed, as decimals have no infinities; the
+ * double result is also kept when the decimal run divides by zero. Constant folding is
+ * off for this backend, because a folded constant hides the rounding of its literals.
+ * Re-evaluations are counted in the metrics registry as {@code precision.fallbacks}
+ * out of {@code precision.evaluations}, with their ratio as {@code precision.fallback.rate};
+ * both counters are kept even when stage metrics are disabled.
+ *
+ * <p>Prepared programs ask for a stack of twice the program depth and keep the error
+ * bounds in its upper half, so evaluation allocates nothing; a smaller stack still
+ * works, with the bounds in a temporary array.
+ */
+public final class AdaptivePrecisionEvaluationAlgorithm implements EvaluationAlgorithm {
+
+    // ===== Instruction Kinds =====
+    private static final byte INVALID = 0;
+    private static final byte NUMBER = 1;
+    private static final byte VARIABLE = 2;
+    private static final byte LOAD = 3;
+    private static final byte STORE = 4;
+    private static final byte ADD = 5;
+    private static final byte SUBTRACT = 6;
+    private static final byte MULTIPLY = 7;
+    private static final byte DIVIDE = 8;
+    private static final byte NEGATE = 9;
+    private static final byte IDENTITY = 10;
+    private static final byte OTHER_UNARY = 11;
+    private static final byte OTHER_BINARY = 12;
+    private static final byte UNKNOWN_OPERATOR = 13;
+
+    private static final LongAdder EVALUATIONS = Metrics.registry().counter("precision.evaluations");
+    private static final LongAdder FALLBACKS = Metrics.registry().counter("precision.fallbacks");
+
+    static {
+        Metrics.registry().gauge("precision.fallback.rate",
+                () -> FALLBACKS.sum() / (double) EVALUATIONS.sum());
+    }
+
+    private final double tolerance;
+    private final MathContext context;
+    private final RpnEvaluationAlgorithm interpreter = new RpnEvaluationAlgorithm();
+
+    /**
+     * @param tolerance largest accepted absolute error bound of a {@code double} result
+     * @param context   precision and rounding of the decimal re-evaluation
+     */
+    public AdaptivePrecisionEvaluationAlgorithm(double tolerance, MathContext context) {
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("Tolerance must not be negative: " + tolerance);
+        }
+        this.tolerance = tolerance;
+        this.context = context;
+    }
+
+    public static AdaptivePrecisionEvaluationAlgorithm fromConfig() {
+        return new AdaptivePrecisionEvaluationAlgorithm(CalculatorConfig.precisionTolerance(),
+                new MathContext(CalculatorConfig.precisionDigits(), RoundingMode.HALF_EVEN));
+    }
+
+    @Override
+    public double execute(TokenIterator tokens, Deque<Double> stack) {
+        return interpreter.execute(tokens, stack);
+    }
+
+    @Override
+    public double execute(RpnProgram program, double[] bindings, double[] stack) {
+        return evaluate(Plan.of(program), bindings, stack);
+    }
+
+    @Override
+    public PreparedProgram prepare(RpnProgram program) {
+        Plan plan = Plan.of(program);
+        return new PreparedProgram() {
+            @Override
+            public double evaluate(double[] bindings, double[] stack) {
+                return AdaptivePrecisionEvaluationAlgorithm.this.evaluate(plan, bindings, stack);
+            }
+
+            @Override
+            public int stackSize(int maxStackDepth) {
+                return 2 * maxStackDepth;
+            }
+        };
+    }
+
+    @Override
+    public boolean allowsConstantFolding() {
+        return false;
+    }
+
+    // ===== Double Path =====
+
+    private double evaluate(Plan plan, double[] bindings, double[] stack) {
+        Token[] code = plan.code();
+        byte[] kinds = plan.kinds();
+        if (code.length == 0) return Double.NaN;
+
+        // Error bounds sit above the values when the caller sized the stack by stackSize().
+        int depth = plan.maxStackDepth();
+        double[] error = stack;
+        int offset = depth;
+        if (stack.length < 2 * depth) {
+            error = new double[depth];
+            offset = 0;
+        }
+        int temps = plan.operandDepth();
+        int sp = 0;
+        boolean inexact = false;
+
+        for (int i = 0; i < code.length; i++) {
+            switch (kinds[i]) {
+                case NUMBER -> {
+                    stack[sp] = code[i].value();
+                    error[offset + sp++] = plan.literalErrors()[i];
+                }
+                case VARIABLE -> {
+                    stack[sp] = bindings[code[i].slot()];
+                    error[offset + sp++] = 0.0;
+                }
+                case LOAD -> {
+                    stack[sp] = stack[temps + code[i].slot()];
+                    error[offset + sp++] = error[offset + temps + code[i].slot()];
+                }
+                case STORE -> {
+                    requireOperands(sp, 1);
+                    stack[temps + code[i].slot()] = stack[sp - 1];
+                    error[offset + temps + code[i].slot()] = error[offset + sp - 1];
+                }
+                case ADD, SUBTRACT -> {
+                    requireOperands(sp, 2);
+                    sp--;
+                    double a = stack[sp - 1];
+                    double b = kinds[i] == ADD ? stack[sp] : -stack[sp];
+                    double sum = a + b;
+                    double bb = sum - a;
+                    double rounding = (a - (sum - bb)) + (b - bb);
+                    stack[sp - 1] = sum;
+                    error[offset + sp - 1] = error[offset + sp - 1] + error[offset + sp] + Math.abs(rounding);
+                }
+                case MULTIPLY -> {
+                    requireOperands(sp, 2);
+                    sp--;
+                    double a = stack[sp - 1];
+                    double b = stack[sp];
+                    double ea = error[offset + sp - 1];
+                    double eb = error[offset + sp];
+                    double product = a * b;
+                    stack[sp - 1] = product;
+                    error[offset + sp - 1] = Math.abs(a) * eb + Math.abs(b) * ea + ea * eb
+                            + Math.abs(Math.fma(a, b, -product));
+                }
+                case DIVIDE -> {
+                    requireOperands(sp, 2);
+                    sp--;
+                    double a = stack[sp - 1];
+                    double b = stack[sp];
+                    double eb = error[offset + sp];
+                    double quotient = a / b;
+                    if (b != 0.0 && Double.isFinite(quotient) && Math.fma(-quotient, b, a) != 0.0) {
+                        inexact = true;
+                    }
+                    stack[sp - 1] = quotient;
+                    error[offset + sp - 1] = eb < Math.abs(b)
+                            ? (error[offset + sp - 1] + Math.abs(quotient) * eb) / (Math.abs(b) - eb)
+                            : Double.POSITIVE_INFINITY;
+                }
+                case NEGATE -> {
+                    requireOperands(sp, 1);
+                    stack[sp - 1] = -stack[sp - 1];
+                }
+                case IDENTITY -> requireOperands(sp, 1);
+                case OTHER_UNARY -> {
+                    requireOperands(sp, 1);
+                    double result = ((UnaryOperator) code[i].operator()).apply(stack[sp - 1]);
+                    stack[sp - 1] = result;
+                    error[offset + sp - 1] += Math.ulp(result);
+                }
+                case OTHER_BINARY -> {
+                    requireOperands(sp, 2);
+                    sp--;
+                    double result = ((BinaryOperator) code[i].operator()).apply(stack[sp - 1], stack[sp]);
+                    stack[sp - 1] = result;
+                    error[offset + sp - 1] += error[offset + sp] + Math.ulp(result);
+                }
+                case UNKNOWN_OPERATOR -> throw new UnknownOperatorException(
+                        code[i].operator().getClass().getSimpleName());
+                default -> throw new EvaluationException("Invalid token in RPN: " + code[i].text());
+            }
+        }
+
+        if (sp == 0) return Double.NaN;
+        double result = stack[sp - 1];
+        boolean fallback = Double.isFinite(result) && (inexact || !(error[offset + sp - 1] <= tolerance));
+
+        EVALUATIONS.increment();
+        if (fallback) {
+            FALLBACKS.increment();
+        }
+        if (!fallback) {
+            return result;
+        }
+        try {
+            return evaluateDecimal(plan, bindings).doubleValue();
+        } catch (ArithmeticException e) {
+            return result;
+        }
+    }
+
+    // ===== Decimal Path =====
+
+    /**
+     * Re-runs a program that already ran to completion on the double path, so operand
+     * counts are known to be valid.
+     *
+     * @throws ArithmeticException when a value cannot be represented as a decimal,
+     *                             e.g. on division by zero
+     */
+    private BigDecimal evaluateDecimal(Plan plan, double[] bindings) {
+        Token[] code = plan.code();
+        byte[] kinds = plan.kinds();
+        BigDecimal[] stack = new BigDecimal[plan.maxStackDepth()];
+        int temps = plan.operandDepth();
+        int sp = 0;
+
+        for (int i = 0; i < code.length; i++) {
+            switch (kinds[i]) {
+                case NUMBER -> stack[sp++] = literal(plan, i);
+                case VARIABLE -> stack[sp++] = decimal(bindings[code[i].slot()]);
+                case LOAD -> stack[sp++] = stack[temps + code[i].slot()];
+                case STORE -> stack[temps + code[i].slot()] = stack[sp - 1];
+                case ADD -> { sp--; stack[sp - 1] = stack[sp - 1].add(stack[sp], context); }
+                case SUBTRACT -> { sp--; stack[sp - 1] = stack[sp - 1].subtract(stack[sp], context); }
+                case MULTIPLY -> { sp--; stack[sp - 1] = stack[sp - 1].multiply(stack[sp], context); }
+                case DIVIDE -> { sp--; stack[sp - 1] = stack[sp - 1].divide(stack[sp], context); }
+                case NEGATE -> stack[sp - 1] = stack[sp - 1].negate();
+                case IDENTITY -> { }
+                case OTHER_UNARY -> stack[sp - 1] = decimal(
+                        ((UnaryOperator) code[i].operator()).apply(stack[sp - 1].doubleValue()));
+                case OTHER_BINARY -> {
+                    sp--;
+                    stack[sp - 1] = decimal(((BinaryOperator) code[i].operator())
+                            .apply(stack[sp - 1].doubleValue(), stack[sp].doubleValue()));
+                }
+                default -> throw new EvaluationException("Invalid token in RPN: " + code[i].text());
+            }
+        }
+        return stack[sp - 1];
+    }
+
+    private static BigDecimal literal(Plan plan, int i) {
+        BigDecimal literal = plan.literals()[i];
+        if (literal == null) {
+            throw new ArithmeticException("Not a finite decimal: " + plan.code()[i].text());
+        }
+        return literal;
+    }
+
+    private static BigDecimal decimal(double value) {
+        if (!Double.isFinite(value)) {
+            throw new ArithmeticException("Not a finite decimal: " + value);
+        }
+        return new BigDecimal(value);
+    }
+
+    private static void requireOperands(int available, int count) {
+        if (available < count) {
+            throw new EvaluationException("Insufficient operands for operator");
+        }
+    }
+
+    // ===== Plan =====
+
+    /**
+     * Program decoded once at prepare time: instruction kinds, the decimal value of every
+     * literal as written, and how far its {@code double} value is from it.
+     */
+    private record Plan(Token[] code, byte[] kinds, BigDecimal[] literals, double[] literalErrors,
+                        int operandDepth, int maxStackDepth) {
+
+        static Plan of(RpnProgram program) {
+            List<Token> tokens = program.tokens();
+            int size = tokens.size();
+            Token[] code = tokens.toArray(new Token[0]);
+            byte[] kinds = new byte[size];
+            BigDecimal[] literals = new BigDecimal[size];
+            double[] literalErrors = new double[size];
+
+            for (int i = 0; i < size; i++) {
+                Token token = code[i];
+                kinds[i] = kindOf(token);
+                if (kinds[i] == NUMBER) {
+                    literals[i] = literal(token);
+                    literalErrors[i] = Double.isFinite(token.value())
+                            ? literals[i].subtract(new BigDecimal(token.value())).abs().doubleValue()
+                            : Double.POSITIVE_INFINITY;
+                }
+            }
+            return new Plan(code, kinds, literals, literalErrors, program.operandDepth(), program.maxStackDepth());
+        }
+
+        private static BigDecimal literal(Token token) {
+            try {
+                return new BigDecimal(token.text());
+            } catch (NumberFormatException e) {
+                return Double.isFinite(token.value()) ? new BigDecimal(token.value()) : null;
+            }
+        }
+
+        private static byte kindOf(Token token) {
+            Operator op = token.operator();
+            if (op == null) {
+                if (token.is(TokenKind.NUMBER)) return NUMBER;
+                if (token.is(TokenKind.VARIABLE)) return VARIABLE;
+                if (token.is(TokenKind.LOAD)) return LOAD;
+                if (token.is(TokenKind.STORE)) return STORE;
+                return INVALID;
+            }
+
+            Class<?> type = op.getClass();
+            if (type == AdditionOperator.class) return ADD;
+            if (type == SubtractionOperator.class) return SUBTRACT;
+            if (type == MultiplicationOperator.class) return MULTIPLY;
+            if (type == DivisionOperator.class) return DIVIDE;
+            if (type == UnaryMinusOperator.class) return NEGATE;
+            if (type == UnaryPlusOperator.class) return IDENTITY;
+            if (op instanceof UnaryOperator) return OTHER_UNARY;
+            if (op instanceof BinaryOperator) return OTHER_BINARY;
+            return UNKNOWN_OPERATOR;
+        }
+    }
+}
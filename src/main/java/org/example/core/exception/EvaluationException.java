@@ -4,4 +4,8 @@ public class EvaluationException extends RuntimeException {
     public EvaluationException(String message) {
         super(message);
     }
+
+    public EvaluationException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
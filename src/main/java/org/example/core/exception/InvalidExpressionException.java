@@ -0,0 +1,17 @@
+package org.example.core.exception;
+
+import org.example.core.validation.Diagnostic;
+
+public class InvalidExpressionException extends EvaluationException {
+
+    private final transient Diagnostic diagnostic;
+
+    public InvalidExpressionException(Diagnostic diagnostic) {
+        super("Invalid expression: " + diagnostic.message());
+        this.diagnostic = diagnostic;
+    }
+
+    public Diagnostic getDiagnostic() {
+        return diagnostic;
+    }
+}
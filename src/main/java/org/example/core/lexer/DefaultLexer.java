@@ -1,8 +1,10 @@
 package org.example.core.lexer;
 
 import lombok.RequiredArgsConstructor;
+import org.example.config.ConfigSnapshot;
 import org.example.config.OperatorConfig;
 import org.example.core.exception.LexicalException;
+import org.example.core.token.Token;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,8 +23,13 @@ public class DefaultLexer implements Lexer {
 
     private final LexicalReader reader;
 
+    // Captured once: per-character checks read final fields instead of the config store.
+    private final ConfigSnapshot.Operators symbols = OperatorConfig.symbols();
+    private final String leftParen = String.valueOf(symbols.leftParen());
+    private final String rightParen = String.valueOf(symbols.rightParen());
+
     @Override
-    public List<String> tokenize(String expr) {
+    public List<Token> scan(String expr) {
         return normalizeInput(expr)
                 .map(this::scanTokens)
                 .map(List::copyOf)
@@ -46,8 +53,8 @@ public class DefaultLexer implements Lexer {
                 : Optional.of(normalized);
     }
 
-    private List<String> scanTokens(String expr) {
-        List<String> tokens = new ArrayList<>();
+    private List<Token> scanTokens(String expr) {
+        List<Token> tokens = new ArrayList<>();
 
         for (int i = 0; i < expr.length();) {
             int prevSize = tokens.size();
@@ -61,7 +68,7 @@ public class DefaultLexer implements Lexer {
         return tokens;
     }
 
-    private int processNextChar(String expr, List<String> tokens, int i) {
+    private int processNextChar(String expr, List<Token> tokens, int i) {
         char c = expr.charAt(i);
 
         if (!isRecognizedCharacter(c)) {
@@ -73,16 +80,20 @@ public class DefaultLexer implements Lexer {
         }
 
         if (isParenthesis(c)) {
-            tokens.add(String.valueOf(c));
+            tokens.add(reader.classify(String.valueOf(c)));
             return i + 1;
         }
 
         if (Character.isDigit(c) || isUnarySignContext(tokens)) {
-            return reader.readSignedFactor(expr, tokens, i);
+            int next = reader.readSignedFactor(expr, tokens, i);
+            // No sign or operand here (e.g. "*" after ")"): lex it as an operator instead of looping.
+            if (next > i) {
+                return next;
+            }
         }
 
         if (isOperatorChar(c)) {
-            tokens.add(String.valueOf(c));
+            tokens.add(reader.classify(String.valueOf(c)));
             return i + 1;
         }
 
@@ -91,61 +102,61 @@ public class DefaultLexer implements Lexer {
 
     private boolean isRecognizedCharacter(char c) {
         return Character.isLetterOrDigit(c)
-                || OperatorConfig.allowedOperatorChars().indexOf(c) >= 0
-                || c == OperatorConfig.leftParen()
-                || c == OperatorConfig.rightParen();
+                || symbols.allowedChars().indexOf(c) >= 0
+                || c == symbols.leftParen()
+                || c == symbols.rightParen();
     }
 
     private boolean isParenthesis(char c) {
-        return c == OperatorConfig.leftParen() || c == OperatorConfig.rightParen();
+        return c == symbols.leftParen() || c == symbols.rightParen();
     }
 
     private boolean isOperatorChar(char c) {
-        return OperatorConfig.allowedOperatorChars().indexOf(c) >= 0;
+        return symbols.allowedChars().indexOf(c) >= 0;
     }
 
-    private boolean isUnarySignContext(List<String> tokens) {
+    private boolean isUnarySignContext(List<Token> tokens) {
         if (tokens.isEmpty()) {
             return true;
         }
 
-        String last = tokens.get(tokens.size() - 1);
+        String last = tokens.get(tokens.size() - 1).text();
 
         return isOperatorChar(last.charAt(0))
-                || last.equals(String.valueOf(OperatorConfig.leftParen()));
+                || last.equals(leftParen);
     }
 
-    private void insertImplicitMultiplication(List<String> tokens) {
+    private void insertImplicitMultiplication(List<Token> tokens) {
         if (tokens.size() < 2) {
             return;
         }
 
-        String prev = tokens.get(tokens.size() - 2);
-        String last = tokens.get(tokens.size() - 1);
+        String prev = tokens.get(tokens.size() - 2).text();
+        String last = tokens.get(tokens.size() - 1).text();
 
         // ignore explicit operator cases
-        if (isOperatorChar(last.charAt(0)) || last.equals(OperatorConfig.multiplyOperator())) {
+        if (isOperatorChar(last.charAt(0)) || last.equals(symbols.multiply())) {
             return;
         }
 
         // ignore parentheses that shouldn't trigger implicit multiplication
-        if (prev.equals(String.valueOf(OperatorConfig.leftParen()))
-                || last.equals(String.valueOf(OperatorConfig.rightParen()))) {
+        if (prev.equals(leftParen)
+                || last.equals(rightParen)) {
             return;
         }
 
         boolean prevIsValue =
                 Character.isDigit(prev.charAt(0))
                         || Character.isLetter(prev.charAt(0))
-                        || prev.equals(String.valueOf(OperatorConfig.rightParen()));
+                        || prev.equals(rightParen);
 
         boolean lastIsValue =
                 Character.isLetter(last.charAt(0))
                         || Character.isDigit(last.charAt(0))
-                        || last.equals(String.valueOf(OperatorConfig.leftParen()));
+                        || last.equals(leftParen);
 
         if (prevIsValue && lastIsValue) {
-            tokens.add(tokens.size() - 1, OperatorConfig.multiplyOperator());
+            tokens.add(tokens.size() - 1, reader.classify(symbols.multiply()));
         }
     }
 }
@@ -1,7 +1,61 @@
 package org.example.core.lexer;
 
+import org.example.core.token.Token;
+import org.example.core.token.Tokens;
+
 import java.util.List;
 
 public interface Lexer {
-    List<String> tokenize(String expr);
+
+    List<Token> scan(String expr);
+
+    /**
+     * Starts lexing input that arrives in pieces, e.g. one REPL line at a time. The
+     * pieces are lexed as if joined by single spaces. This default buffers every piece
+     * and scans once in {@link Session#finish()}; lexers whose tokens never span
+     * whitespace override it to scan each piece as it arrives.
+     */
+    default Session session() {
+        StringBuilder input = new StringBuilder();
+        return new Session() {
+            @Override
+            public List<Token> feed(String piece) {
+                if (!input.isEmpty()) {
+                    input.append(' ');
+                }
+                input.append(piece);
+                return List.of();
+            }
+
+            @Override
+            public List<Token> finish() {
+                return scan(input.toString());
+            }
+        };
+    }
+
+    /**
+     * String adapter over {@link #scan(String)} for callers still using the text form.
+     */
+    default List<String> tokenize(String expr) {
+        return Tokens.texts(scan(expr));
+    }
+
+    /**
+     * Lexing state of one piecewise input; not thread-safe.
+     */
+    interface Session {
+
+        /**
+         * Scans the next piece and returns the tokens it completes.
+         *
+         * @throws org.example.core.exception.LexicalException when the piece cannot be lexed
+         */
+        List<Token> feed(String piece);
+
+        /**
+         * Returns the tokens still held back once the input is complete.
+         */
+        List<Token> finish();
+    }
 }
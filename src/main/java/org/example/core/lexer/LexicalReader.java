@@ -1,6 +1,12 @@
 package org.example.core.lexer;
 
+import org.example.config.ConfigSnapshot;
 import org.example.config.OperatorConfig;
+import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.operators.factory.OperatorRegistry;
+import org.example.core.token.Token;
+import org.example.core.token.Tokens;
+
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -8,22 +14,42 @@ public final class LexicalReader {
 
     private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+(\\.\\d+)?");
 
-    public int readFunctionName(String expr, List<String> tokens, int i) {
+    private final ConfigSnapshot.Operators symbols = OperatorConfig.symbols();
+    private final char plus = symbols.plus().charAt(0);
+    private final char minus = symbols.minus().charAt(0);
+    private final OperatorRegistry operators;
+
+    public LexicalReader() {
+        this(OperatorFactory.registry());
+    }
+
+    public LexicalReader(OperatorRegistry operators) {
+        this.operators = operators;
+    }
+
+    /**
+     * Classifies token text against this reader's operator registry.
+     */
+    public Token classify(String text) {
+        return Tokens.classify(text, operators.snapshot());
+    }
+
+    public int readFunctionName(String expr, List<Token> tokens, int i) {
         int j = i;
         while (j < expr.length() && Character.isLetter(expr.charAt(j))) {
             j++;
         }
-        tokens.add(expr.substring(i, j));
+        tokens.add(classify(expr.substring(i, j)));
         return j;
     }
 
-    public int readSignedFactor(String expr, List<String> tokens, int i) {
+    public int readSignedFactor(String expr, List<Token> tokens, int i) {
 
         int j = i;
 
         int sign = 1;
         while (j < expr.length() && isSign(expr.charAt(j))) {
-            if (expr.charAt(j) == OperatorConfig.minusOperator().charAt(0)) {
+            if (expr.charAt(j) == minus) {
                 sign = -sign;
             }
             j++;
@@ -34,25 +60,25 @@ public final class LexicalReader {
             char next = expr.charAt(j);
 
             if (Character.isDigit(next) || next == '.') {
-                if (sign < 0) tokens.add("u-");
+                if (sign < 0) tokens.add(unaryMinus());
                 return readUnsignedNumber(expr, tokens, j);
             }
 
             if (Character.isLetter(next)) {
-                if (sign < 0) tokens.add("u-");
+                if (sign < 0) tokens.add(unaryMinus());
                 return readFunctionName(expr, tokens, j);
             }
 
-            if (next == OperatorConfig.leftParen()) {
-                if (sign < 0) tokens.add("u-");
-                tokens.add(String.valueOf(next));
+            if (next == symbols.leftParen()) {
+                if (sign < 0) tokens.add(unaryMinus());
+                tokens.add(classify(String.valueOf(next)));
                 return j + 1;
             }
         }
         return j;
     }
 
-    private int readUnsignedNumber(String expr, List<String> tokens, int j) {
+    private int readUnsignedNumber(String expr, List<Token> tokens, int j) {
         int start = j;
 
         while (j < expr.length()) {
@@ -61,12 +87,15 @@ public final class LexicalReader {
             j++;
         }
 
-        tokens.add(expr.substring(start, j));
+        tokens.add(Tokens.parseNumber(expr, start, j));
         return j;
     }
 
+    private Token unaryMinus() {
+        return classify(symbols.unaryMinus());
+    }
+
     private boolean isSign(char c) {
-        return c == OperatorConfig.plusOperator().charAt(0)
-                || c == OperatorConfig.minusOperator().charAt(0);
+        return c == plus || c == minus;
     }
 }
\ No newline at end of file
@@ -5,14 +5,16 @@ import org.example.core.exception.LexicalException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.example.config.OperatorConfig;
+import org.example.core.operators.base.Operator;
 import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.operators.factory.OperatorRegistry;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+import org.example.core.token.Tokens;
 
 public final class RegexLexer implements Lexer {
 
@@ -29,33 +31,41 @@ public final class RegexLexer implements Lexer {
                     + "|(?<RPAREN>\\))"
     );
 
-    private static final Set<String> FUNCTIONS = OperatorFactory.getFunctionNames();
-
     private static final String LEFT_PAREN = String.valueOf(OperatorConfig.leftParen());
     private static final String RIGHT_PAREN = String.valueOf(OperatorConfig.rightParen());
 
+    private final OperatorRegistry operators;
+
+    public RegexLexer() {
+        this(OperatorFactory.registry());
+    }
+
+    public RegexLexer(OperatorRegistry operators) {
+        this.operators = operators;
+    }
+
     @Override
-    public List<String> tokenize(String expr) {
+    public List<Token> scan(String expr) {
         return Optional.ofNullable(expr)
                 .map(this::scanTokens)
                 .map(List::copyOf)
                 .orElse(List.of());
     }
 
-    private List<String> scanTokens(String expr) {
-        List<String> tokens = new ArrayList<>();
+    private List<Token> scanTokens(String expr) {
+        List<Token> tokens = new ArrayList<>();
         Matcher matcher = TOKEN_PATTERN.matcher(expr);
 
-        String last = null;
+        Token last = null;
 
         while (matcher.find()) {
 
-            String token = extractToken(matcher)
+            Token token = extractToken(expr, matcher)
                     .orElseThrow(() ->
                             new LexicalException("Unrecognized token: " + matcher.group()));
 
             if (needsImplicitMultiplication(last, token)) {
-                tokens.add("*");
+                tokens.add(symbol("*"));
             }
 
             tokens.add(token);
@@ -64,70 +74,59 @@ public final class RegexLexer implements Lexer {
         return tokens;
     }
 
-    private Optional<String> extractToken(Matcher m) {
+    private Optional<Token> extractToken(String expr, Matcher m) {
         if (m.group("ILLEGAL") != null)
             throw new LexicalException("Illegal character: " + m.group("ILLEGAL"));
-        if (m.group("NUMBER") != null) return Optional.of(m.group("NUMBER"));
-        if (m.group("FUNC")   != null) return Optional.of(m.group("FUNC"));
-        if (m.group("PLUS")   != null) return Optional.of("+");
-        if (m.group("MINUS")  != null) return Optional.of("-");
-        if (m.group("MULT")   != null) return Optional.of("*");
-        if (m.group("DIV")    != null) return Optional.of("/");
-        if (m.group("POW")    != null) return Optional.of("^");
-        if (m.group("LPAREN") != null) return Optional.of("(");
-        if (m.group("RPAREN") != null) return Optional.of(")");
+        if (m.start("NUMBER") >= 0) return Optional.of(Tokens.parseNumber(expr, m.start("NUMBER"), m.end("NUMBER")));
+        if (m.group("FUNC")   != null) return Optional.of(word(m.group("FUNC")));
+        if (m.group("PLUS")   != null) return Optional.of(symbol("+"));
+        if (m.group("MINUS")  != null) return Optional.of(symbol("-"));
+        if (m.group("MULT")   != null) return Optional.of(symbol("*"));
+        if (m.group("DIV")    != null) return Optional.of(symbol("/"));
+        if (m.group("POW")    != null) return Optional.of(symbol("^"));
+        if (m.group("LPAREN") != null) return Optional.of(Token.leftParen(LEFT_PAREN));
+        if (m.group("RPAREN") != null) return Optional.of(Token.rightParen(RIGHT_PAREN));
 
         return Optional.empty();
     }
 
-    private boolean needsImplicitMultiplication(String prev, String curr) {
+    private Token word(String text) {
+        Operator op = operators.lookup(text);
+        return op != null ? Token.operator(text, op) : Token.identifier(text);
+    }
+
+    private Token symbol(String text) {
+        return Tokens.classify(text, operators.snapshot());
+    }
+
+    private boolean needsImplicitMultiplication(Token prev, Token curr) {
 
-        if (isFunction(prev) && LEFT_PAREN.equals(curr)) {
+        if (isFunction(prev) && curr.is(TokenKind.LEFT_PAREN)) {
             return false;
         }
 
         return isValue(prev) && isPrefixValue(curr);
     }
 
-    private boolean isValue(String t) {
+    private boolean isValue(Token t) {
         if (t == null) return false;
 
-        return isNumber(t)
-                || isIdentifier(t)
+        return t.is(TokenKind.NUMBER)
+                || t.is(TokenKind.IDENTIFIER)
                 || isFunction(t)
-                || RIGHT_PAREN.equals(t);
+                || t.is(TokenKind.RIGHT_PAREN);
     }
 
-    private boolean isPrefixValue(String t) {
+    private boolean isPrefixValue(Token t) {
         if (t == null) return false;
 
-        return isNumber(t)
-                || isIdentifier(t)
+        return t.is(TokenKind.NUMBER)
+                || t.is(TokenKind.IDENTIFIER)
                 || isFunction(t)
-                || LEFT_PAREN.equals(t);
-    }
-
-    private boolean isNumber(String t) {
-        boolean seenDot = false;
-        if (t == null) return false;
-
-        for (char c : t.toCharArray()) {
-            if (c == '.') {
-                if (seenDot) return false;
-                seenDot = true;
-            } else if (!Character.isDigit(c)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private boolean isIdentifier(String t) {
-        if (t == null) return false;
-        return Character.isLetter(t.charAt(0));
+                || t.is(TokenKind.LEFT_PAREN);
     }
 
-    private boolean isFunction(String t) {
-        return t != null && FUNCTIONS.contains(t);
+    private boolean isFunction(Token t) {
+        return t != null && t.is(TokenKind.FUNCTION);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,243 @@
+package org.example.core.lexer;
+
+import org.example.config.OperatorConfig;
+import org.example.core.exception.LexicalException;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.operators.factory.OperatorRegistry;
+import org.example.core.operators.factory.OperatorSnapshot;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+import org.example.core.token.Tokens;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TableLexer — single forward pass over the input driven by a 128-entry ASCII
+ * character-class table. Produces the same tokens as {@link RegexLexer}:
+ * whitespace and stray dots are skipped, numbers are parsed while scanning and
+ * implicit multiplication is decided from the previous token kind.
+ */
+public final class TableLexer implements Lexer {
+
+    // ===== Character Classes =====
+    private static final byte ILLEGAL = 0;
+    private static final byte SKIP = 1;
+    private static final byte DIGIT = 2;
+    private static final byte LETTER = 3;
+    private static final byte PLUS = 4;
+    private static final byte MINUS = 5;
+    private static final byte STAR = 6;
+    private static final byte SLASH = 7;
+    private static final byte CARET = 8;
+    private static final byte LPAREN = 9;
+    private static final byte RPAREN = 10;
+
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) CLASSES[c] = DIGIT;
+        for (char c = 'a'; c <= 'z'; c++) CLASSES[c] = LETTER;
+        for (char c = 'A'; c <= 'Z'; c++) CLASSES[c] = LETTER;
+        for (char c : " \t\n\u000B\f\r.".toCharArray()) CLASSES[c] = SKIP;
+        CLASSES['+'] = PLUS;
+        CLASSES['-'] = MINUS;
+        CLASSES['*'] = STAR;
+        CLASSES['/'] = SLASH;
+        CLASSES['^'] = CARET;
+        CLASSES['('] = LPAREN;
+        CLASSES[')'] = RPAREN;
+    }
+
+    private final OperatorRegistry operators;
+    private volatile Vocabulary vocabulary;
+
+    public TableLexer() {
+        this(OperatorFactory.registry());
+    }
+
+    public TableLexer(OperatorRegistry operators) {
+        this.operators = operators;
+    }
+
+    @Override
+    public List<Token> scan(String expr) {
+        if (expr == null) {
+            return List.of();
+        }
+        return List.copyOf(scanTokens(expr, vocabulary(), null));
+    }
+
+    /**
+     * Scans each piece as it is fed. Tokens never span whitespace, so only the implicit
+     * multiplication between the last token of one piece and the first of the next
+     * depends on earlier input.
+     */
+    @Override
+    public Session session() {
+        Vocabulary vocab = vocabulary();
+        return new Session() {
+            private Token last;
+
+            @Override
+            public List<Token> feed(String piece) {
+                List<Token> tokens = scanTokens(piece, vocab, last);
+                if (!tokens.isEmpty()) {
+                    last = tokens.get(tokens.size() - 1);
+                }
+                return tokens;
+            }
+
+            @Override
+            public List<Token> finish() {
+                return List.of();
+            }
+        };
+    }
+
+    /**
+     * @param last token preceding {@code expr}, or {@code null} at the start of the input
+     */
+    private List<Token> scanTokens(String expr, Vocabulary vocab, Token last) {
+        List<Token> tokens = new ArrayList<>();
+        int length = expr.length();
+
+        int i = 0;
+        while (i < length) {
+            char c = expr.charAt(i);
+            byte cls = c < 128 ? CLASSES[c] : ILLEGAL;
+
+            Token token;
+            switch (cls) {
+                case SKIP -> {
+                    i++;
+                    continue;
+                }
+                case DIGIT -> {
+                    int end = numberEnd(expr, i);
+                    token = Tokens.parseNumber(expr, i, end);
+                    i = end;
+                }
+                case LETTER -> {
+                    int end = wordEnd(expr, i);
+                    token = word(expr.substring(i, end), vocab.snapshot());
+                    i = end;
+                }
+                case PLUS -> { token = vocab.plus(); i++; }
+                case MINUS -> { token = vocab.minus(); i++; }
+                case STAR -> { token = vocab.star(); i++; }
+                case SLASH -> { token = vocab.slash(); i++; }
+                case CARET -> { token = vocab.caret(); i++; }
+                case LPAREN -> { token = vocab.leftParen(); i++; }
+                case RPAREN -> { token = vocab.rightParen(); i++; }
+                default -> throw new LexicalException(
+                        "Illegal character: " + new String(Character.toChars(expr.codePointAt(i))));
+            }
+
+            if (needsImplicitMultiplication(last, token)) {
+                tokens.add(vocab.star());
+            }
+
+            tokens.add(token);
+            last = token;
+        }
+        return tokens;
+    }
+
+    // ===== Scanning Helpers =====
+
+    private static boolean isClass(String expr, int i, byte cls) {
+        char c = expr.charAt(i);
+        return c < 128 && CLASSES[c] == cls;
+    }
+
+    private static int numberEnd(String expr, int start) {
+        int length = expr.length();
+        int j = start;
+        while (j < length && isClass(expr, j, DIGIT)) j++;
+
+        // A fraction needs at least one digit after the dot; otherwise the dot is skipped.
+        if (j + 1 < length && expr.charAt(j) == '.' && isClass(expr, j + 1, DIGIT)) {
+            j++;
+            while (j < length && isClass(expr, j, DIGIT)) j++;
+        }
+        return j;
+    }
+
+    private static int wordEnd(String expr, int start) {
+        int length = expr.length();
+        int j = start + 1;
+        while (j < length && (isClass(expr, j, LETTER) || isClass(expr, j, DIGIT))) j++;
+        return j;
+    }
+
+    private static Token word(String text, OperatorSnapshot snapshot) {
+        Operator op = snapshot.operator(text);
+        return op != null ? Token.operator(text, op) : Token.identifier(text);
+    }
+
+    private static boolean needsImplicitMultiplication(Token prev, Token curr) {
+        if (prev == null) {
+            return false;
+        }
+
+        TokenKind before = prev.kind();
+        TokenKind after = curr.kind();
+
+        if (before == TokenKind.FUNCTION && after == TokenKind.LEFT_PAREN) {
+            return false;
+        }
+
+        boolean prevIsValue = before == TokenKind.NUMBER
+                || before == TokenKind.IDENTIFIER
+                || before == TokenKind.FUNCTION
+                || before == TokenKind.RIGHT_PAREN;
+
+        boolean currIsPrefixValue = after == TokenKind.NUMBER
+                || after == TokenKind.IDENTIFIER
+                || after == TokenKind.FUNCTION
+                || after == TokenKind.LEFT_PAREN;
+
+        return prevIsValue && currIsPrefixValue;
+    }
+
+    // ===== Vocabulary =====
+
+    /**
+     * Fixed single-character tokens resolved against one operator snapshot;
+     * rebuilt only when an operator is registered.
+     */
+    private record Vocabulary(OperatorSnapshot snapshot,
+                              Token plus, Token minus, Token star, Token slash, Token caret,
+                              Token leftParen, Token rightParen) {
+
+        static Vocabulary of(OperatorSnapshot snapshot) {
+            return new Vocabulary(
+                    snapshot,
+                    symbol("+", snapshot),
+                    symbol("-", snapshot),
+                    symbol("*", snapshot),
+                    symbol("/", snapshot),
+                    symbol("^", snapshot),
+                    Token.leftParen(String.valueOf(OperatorConfig.leftParen())),
+                    Token.rightParen(String.valueOf(OperatorConfig.rightParen()))
+            );
+        }
+
+        private static Token symbol(String text, OperatorSnapshot snapshot) {
+            Operator op = snapshot.operator(text);
+            return op != null ? Token.operator(text, op) : Token.unknown(text);
+        }
+    }
+
+    private Vocabulary vocabulary() {
+        OperatorSnapshot current = operators.snapshot();
+        Vocabulary vocab = vocabulary;
+        if (vocab == null || vocab.snapshot() != current) {
+            vocab = Vocabulary.of(current);
+            vocabulary = vocab;
+        }
+        return vocab;
+    }
+}
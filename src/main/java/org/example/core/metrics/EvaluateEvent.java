@@ -0,0 +1,11 @@
+package org.example.core.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.calculator.Evaluate")
+@Label("Evaluate")
+@Description("Compiled expression evaluated")
+public final class EvaluateEvent extends StageEvent {
+}
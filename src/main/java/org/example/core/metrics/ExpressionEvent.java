@@ -0,0 +1,11 @@
+package org.example.core.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.calculator.Expression")
+@Label("Expression")
+@Description("One expression handled end to end by the application")
+public final class ExpressionEvent extends StageEvent {
+}
@@ -0,0 +1,11 @@
+package org.example.core.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.calculator.Lex")
+@Label("Lex")
+@Description("Source text scanned into tokens")
+public final class LexEvent extends StageEvent {
+}
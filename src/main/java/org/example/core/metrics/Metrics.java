@@ -0,0 +1,79 @@
+package org.example.core.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.config.CalculatorConfig;
+
+/**
+ * Metrics — process-wide registry and the switch for stage timing.
+ * While disabled, {@link #start()} returns {@code 0} without reading the clock and
+ * {@link #record} returns immediately, so instrumented code pays one volatile read
+ * per stage. JFR events are independent of this switch; they cost nothing unless a
+ * recording enables them.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Metrics {
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+    private static final LatencyHistogram[] STAGES = new LatencyHistogram[Stage.values().length];
+
+    static {
+        for (Stage stage : Stage.values()) {
+            STAGES[stage.ordinal()] = REGISTRY.histogram(stage.metricName());
+        }
+    }
+
+    private static volatile boolean enabled = CalculatorConfig.metricsEnabled();
+
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Start timestamp for {@link #record}; {@code 0} while disabled.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void record(Stage stage, long start) {
+        if (start != 0L && enabled) {
+            STAGES[stage.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Nanoseconds since {@code start}; {@code 0} when {@code start} was taken while disabled.
+     */
+    public static long elapsed(long start) {
+        return start != 0L ? System.nanoTime() - start : 0L;
+    }
+
+    /**
+     * Records a duration summed from several {@link #elapsed} spans as a single sample.
+     */
+    public static void recordElapsed(Stage stage, long nanos) {
+        if (nanos > 0L && enabled) {
+            STAGES[stage.ordinal()].record(nanos);
+        }
+    }
+
+    public static void increment(String counter) {
+        if (enabled) {
+            REGISTRY.counter(counter).increment();
+        }
+    }
+
+    public static String dump() {
+        return (enabled ? "" : "(metrics disabled; set calculator.metrics.enabled=true)" + System.lineSeparator())
+                + REGISTRY.dump();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.core.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * MetricsRegistry — named counters, gauges and latency histograms, created on first use.
+ * Look instruments up once and keep the reference on hot paths; the maps are only
+ * for registration and reporting.
+ */
+public final class MetricsRegistry {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, LongAdder> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, DoubleSupplier> gauges = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+    private volatile long resetAt = System.nanoTime();
+
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Registers a value computed when the report is built, e.g. a ratio of two counters;
+     * replaces any earlier gauge of the same name. {@code NaN} values are not reported.
+     */
+    public void gauge(String name, DoubleSupplier value) {
+        gauges.put(name, value);
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    public void reset() {
+        counters.values().forEach(LongAdder::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+        resetAt = System.nanoTime();
+    }
+
+    // ===== Reporting =====
+
+    /**
+     * Human-readable report: counters, gauges, then one line per histogram with count,
+     * throughput since the last reset, mean, percentiles and maximum in microseconds.
+     */
+    public String dump() {
+        double seconds = Math.max(1e-9, (System.nanoTime() - resetAt) / 1e9);
+        StringBuilder out = new StringBuilder();
+
+        out.append(String.format(Locale.ROOT, "Metrics over %.1f s%n", seconds));
+        counters.forEach((name, value) ->
+                out.append(String.format(Locale.ROOT, "  %-24s %12d%n", name, value.sum())));
+
+        gauges.forEach((name, gauge) -> {
+            double value = gauge.getAsDouble();
+            if (!Double.isNaN(value)) {
+                out.append(String.format(Locale.ROOT, "  %-24s %12.6f%n", name, value));
+            }
+        });
+
+        histograms.forEach((name, histogram) -> {
+            LatencyHistogram.Snapshot s = histogram.snapshot();
+            if (s.count() == 0) {
+                return;
+            }
+            out.append(String.format(Locale.ROOT,
+                    "  %-24s n=%d (%.1f/s) mean=%.2fus p50=%.2fus p90=%.2fus p99=%.2fus p99.9=%.2fus max=%.2fus%n",
+                    name, s.count(), s.count() / seconds, s.mean() / 1e3,
+                    s.percentile(PERCENTILES[0]) / 1e3, s.percentile(PERCENTILES[1]) / 1e3,
+                    s.percentile(PERCENTILES[2]) / 1e3, s.percentile(PERCENTILES[3]) / 1e3,
+                    s.max() / 1e3));
+        });
+        return out.toString();
+    }
+}
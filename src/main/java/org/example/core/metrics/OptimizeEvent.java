@@ -0,0 +1,11 @@
+package org.example.core.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.calculator.Optimize")
+@Label("Optimize")
+@Description("RPN program folded, simplified and deduplicated")
+public final class OptimizeEvent extends StageEvent {
+}
@@ -0,0 +1,11 @@
+package org.example.core.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.calculator.Parse")
+@Label("Parse")
+@Description("Tokens converted to an RPN program")
+public final class ParseEvent extends StageEvent {
+}
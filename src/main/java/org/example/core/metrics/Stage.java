@@ -0,0 +1,23 @@
+package org.example.core.metrics;
+
+/**
+ * Pipeline stages with a latency histogram in {@link Metrics}.
+ */
+public enum Stage {
+    LEX("stage.lex"),
+    VALIDATE("stage.validate"),
+    PARSE("stage.parse"),
+    OPTIMIZE("stage.optimize"),
+    EVALUATE("stage.evaluate"),
+    REQUEST("request");
+
+    private final String metricName;
+
+    Stage(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Common shape of the per-stage JFR events. Fields are only filled in when the
+ * event is actually going to be written.
+ */
+@Category({"Calculator", "Stages"})
+public abstract class StageEvent extends Event {
+
+    @Label("Expression Length")
+    int expressionLength;
+
+    @Label("Token Count")
+    int tokenCount;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param tokens token count, or {@code -1} where the stage does not tokenize
+     */
+    public final void complete(int length, int tokens) {
+        end();
+        if (shouldCommit()) {
+            expressionLength = length;
+            tokenCount = tokens;
+            commit();
+        }
+    }
+}
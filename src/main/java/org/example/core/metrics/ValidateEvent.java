@@ -0,0 +1,11 @@
+package org.example.core.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.example.calculator.Validate")
+@Label("Validate")
+@Description("Token stream or source text checked for structural errors")
+public final class ValidateEvent extends StageEvent {
+}
@@ -0,0 +1,111 @@
+package org.example.core.operators.factory;
+
+import org.example.config.ConfigurationManager;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.impl.AdditionOperator;
+import org.example.core.operators.impl.CosOperator;
+import org.example.core.operators.impl.DivisionOperator;
+import org.example.core.operators.impl.MultiplicationOperator;
+import org.example.core.operators.impl.SinOperator;
+import org.example.core.operators.impl.SubtractionOperator;
+import org.example.core.operators.impl.UnaryMinusOperator;
+import org.example.core.operators.impl.UnaryPlusOperator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * OperatorRegistry — one operator dialect, injected into the lexers, the RPN parser
+ * and the optimizer of an engine. Registration copies the current table into a new
+ * immutable {@link OperatorSnapshot} and publishes it through a volatile field, so
+ * readers never lock and always see either the old or the new table, never a mix.
+ * Registries are independent: engines built on different instances can run side by
+ * side in one process with different operator sets.
+ */
+public final class OperatorRegistry {
+
+    private volatile OperatorSnapshot snapshot;
+
+    public OperatorRegistry() {
+        this(OperatorSnapshot.EMPTY);
+    }
+
+    private OperatorRegistry(OperatorSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * New registry holding the built-in operators under their configured symbols.
+     */
+    public static OperatorRegistry withDefaults() {
+        Map<String, Operator> defaults = Map.ofEntries(
+                Map.entry("operator.plus", new AdditionOperator()),
+                Map.entry("operator.minus", new SubtractionOperator()),
+                Map.entry("operator.multiply", new MultiplicationOperator()),
+                Map.entry("operator.divide", new DivisionOperator()),
+                Map.entry("operator.sin", new SinOperator()),
+                Map.entry("operator.cos", new CosOperator()),
+                Map.entry("operator.unary.minus", new UnaryMinusOperator()),
+                Map.entry("operator.unary.plus", new UnaryPlusOperator())
+        );
+
+        Map<String, Operator> bySymbol = new HashMap<>();
+        defaults.forEach((configKey, operatorInstance) -> {
+            String symbol = ConfigurationManager.getOrThrow(configKey);
+            if (Objects.isNull(symbol) || symbol.isBlank()) {
+                throw new IllegalStateException(
+                        "Missing operator symbol for key: " + configKey
+                );
+            }
+            bySymbol.put(symbol, operatorInstance);
+        });
+        return new OperatorRegistry(OperatorSnapshot.of(bySymbol));
+    }
+
+    /**
+     * Independent registry starting from this one's current operators, e.g. to derive
+     * a dialect; later registrations on either side do not affect the other.
+     */
+    public OperatorRegistry copy() {
+        return new OperatorRegistry(snapshot);
+    }
+
+    /**
+     * Registers an operator and republishes the snapshot; readers never see a partial update.
+     */
+    public synchronized void register(String symbol, Operator operator) {
+        if (Objects.isNull(symbol) || Objects.isNull(operator)) {
+            throw new IllegalArgumentException("Symbol and operator must not be null");
+        }
+        Operator existing = snapshot.operator(symbol);
+        if (Objects.nonNull(existing)) {
+            throw new IllegalStateException(
+                    "Operator already registered for symbol: " + symbol + " ("
+                            + existing.getClass().getSimpleName() + ")"
+            );
+        }
+        Map<String, Operator> next = new HashMap<>(snapshot.operators());
+        next.put(symbol, operator);
+        snapshot = OperatorSnapshot.of(next);
+    }
+
+    /**
+     * Current immutable table; hold on to it to read several entries consistently.
+     */
+    public OperatorSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public Optional<Operator> get(String symbol) {
+        return Optional.ofNullable(snapshot.operator(symbol));
+    }
+
+    /**
+     * Allocation-free variant of {@link #get(String)} for hot loops; returns {@code null} when absent.
+     */
+    public Operator lookup(String symbol) {
+        return snapshot.operator(symbol);
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.core.operators.factory;
+
+import org.example.core.operators.base.BinaryOperator;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.base.UnaryOperator;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OperatorSnapshot — immutable view of the operator registry with every derived
+ * table precomputed, so lookups on hot paths never stream or allocate.
+ */
+public final class OperatorSnapshot {
+
+    static final OperatorSnapshot EMPTY = of(Map.of());
+
+    private final Map<String, Operator> operators;
+    private final Set<String> binaryOperators;
+    private final Set<String> unaryOperators;
+    private final Set<String> functionNames;
+    private final Map<String, Integer> precedences;
+
+    private OperatorSnapshot(Map<String, Operator> operators,
+                             Set<String> binaryOperators,
+                             Set<String> unaryOperators,
+                             Set<String> functionNames,
+                             Map<String, Integer> precedences) {
+        this.operators = operators;
+        this.binaryOperators = binaryOperators;
+        this.unaryOperators = unaryOperators;
+        this.functionNames = functionNames;
+        this.precedences = precedences;
+    }
+
+    static OperatorSnapshot of(Map<String, Operator> registry) {
+        Set<String> binary = new HashSet<>();
+        Set<String> unary = new HashSet<>();
+        Set<String> functions = new HashSet<>();
+        Map<String, Integer> precedences = new HashMap<>();
+
+        registry.forEach((symbol, op) -> {
+            if (op instanceof BinaryOperator) binary.add(symbol);
+            if (op instanceof UnaryOperator) unary.add(symbol);
+            if (op.isFunction()) functions.add(symbol);
+            precedences.put(symbol, op.getPrecedence());
+        });
+
+        return new OperatorSnapshot(
+                Map.copyOf(registry),
+                Set.copyOf(binary),
+                Set.copyOf(unary),
+                Set.copyOf(functions),
+                Map.copyOf(precedences)
+        );
+    }
+
+    /**
+     * Returns the operator registered for the symbol, or {@code null} when there is none.
+     */
+    public Operator operator(String symbol) {
+        return operators.get(symbol);
+    }
+
+    public boolean isOperator(String symbol) {
+        return operators.containsKey(symbol);
+    }
+
+    public boolean isUnary(String symbol) {
+        return unaryOperators.contains(symbol);
+    }
+
+    public boolean isBinary(String symbol) {
+        return binaryOperators.contains(symbol);
+    }
+
+    public boolean isFunction(String symbol) {
+        return functionNames.contains(symbol);
+    }
+
+    /**
+     * Returns the precedence of the symbol, or {@code -1} when it is not an operator.
+     */
+    public int precedence(String symbol) {
+        return precedences.getOrDefault(symbol, -1);
+    }
+
+    public Map<String, Operator> operators() {
+        return operators;
+    }
+
+    public Set<String> binaryOperators() {
+        return binaryOperators;
+    }
+
+    public Set<String> unaryOperators() {
+        return unaryOperators;
+    }
+
+    public Set<String> functionNames() {
+        return functionNames;
+    }
+}
@@ -1,45 +1,77 @@
 package org.example.core.parser;
 
 import lombok.RequiredArgsConstructor;
-import org.example.config.ConfigurationManager;
+import org.example.config.ConfigSnapshot;
 import org.example.config.OperatorConfig;
 import org.example.core.operators.base.Operator;
+import org.example.core.operators.base.UnaryOperator;
 import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.operators.factory.OperatorRegistry;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+import org.example.core.token.Tokens;
 
 import java.util.*;
 
 @RequiredArgsConstructor
 public class DefaultRpnParser implements RpnParser {
 
-    private static final String LEFT_PAREN = String.valueOf(OperatorConfig.leftParen());
-    private static final String RIGHT_PAREN = String.valueOf(OperatorConfig.rightParen());
+    private final ConfigSnapshot.Operators symbols = OperatorConfig.symbols();
+    private final OperatorRegistry operators;
+
+    public DefaultRpnParser() {
+        this(OperatorFactory.registry());
+    }
 
     @Override
-    public List<String> toRpn(List<String> tokens) {
+    public List<Token> toRpnTokens(List<Token> tokens) {
         if (tokens == null || tokens.isEmpty()) return List.of();
 
-        List<String> output = new ArrayList<>();
-        Deque<String> stack = new ArrayDeque<>();
+        Conversion conversion = conversion();
+        for (Token token : tokens) {
+            conversion.accept(token);
+        }
+        return conversion.finish();
+    }
 
-        String prev = null;
+    @Override
+    public List<String> toRpn(List<String> tokens) {
+        return Tokens.texts(toRpnTokens(Tokens.classify(tokens, operators.snapshot())));
+    }
 
-        for (String token : tokens) {
-            token = detectUnary(token, prev);
-            handleToken(token, output, stack);
-            prev = token;
-        }
+    /**
+     * Shunting-yard is already a single forward pass, so tokens are placed as they
+     * arrive and {@link Conversion#finish()} only drains the operator stack.
+     */
+    @Override
+    public Conversion conversion() {
+        return new Conversion() {
+            private final List<Token> output = new ArrayList<>();
+            private final Deque<Token> stack = new ArrayDeque<>();
+            private Token prev;
+
+            @Override
+            public void accept(Token token) {
+                token = detectUnary(token, prev);
+                handleToken(token, output, stack);
+                prev = token;
+            }
 
-        drainStack(stack, output);
-        return output;
+            @Override
+            public List<Token> finish() {
+                drainStack(stack, output);
+                return output;
+            }
+        };
     }
 
-    private String detectUnary(String token, String prev) {
-        if (OperatorFactory.isUnaryCandidate(token)) {
+    private Token detectUnary(Token token, Token prev) {
+        if (token.operator() instanceof UnaryOperator || token.is(TokenKind.NUMBER)) {
             return token;
         }
 
         boolean isPlusOrMinus =
-                token.equals(OperatorConfig.plusOperator()) || token.equals(OperatorConfig.minusOperator());
+                token.text().equals(symbols.plus()) || token.text().equals(symbols.minus());
 
         if (!isPlusOrMinus) {
             return token;
@@ -47,41 +79,40 @@ public class DefaultRpnParser implements RpnParser {
 
         boolean unaryContext =
                 prev == null
-                        || OperatorFactory.isOperator(prev)
-                        || LEFT_PAREN.equals(prev);
+                        || prev.isOperator()
+                        || prev.is(TokenKind.LEFT_PAREN);
 
         if (!unaryContext) {
             return token;
         }
 
-        return token.equals(OperatorConfig.plusOperator())
-                ? OperatorConfig.unaryPlusOperator()
-                : OperatorConfig.unaryMinusOperator();
+        return token.text().equals(symbols.plus())
+                ? Tokens.classify(symbols.unaryPlus(), operators.snapshot())
+                : Tokens.classify(symbols.unaryMinus(), operators.snapshot());
     }
 
-    private void handleToken(String token, List<String> output, Deque<String> stack) {
+    private void handleToken(Token token, List<Token> output, Deque<Token> stack) {
 
-        if (LEFT_PAREN.equals(token)) {
+        if (token.is(TokenKind.LEFT_PAREN)) {
             stack.push(token);
             return;
         }
 
-        if (RIGHT_PAREN.equals(token)) {
+        if (token.is(TokenKind.RIGHT_PAREN)) {
             drainUntilLeftParen(stack, output);
             return;
         }
 
-        Optional<Operator> opOpt = OperatorFactory.get(token);
-        if (opOpt.isPresent()) {
-            Operator op = opOpt.get();
+        if (token.isOperator()) {
+            Operator op = token.operator();
 
             // unary operator?
             if (op.getOperandCount() == 1) {
-                stack.push(op.getSymbol());
+                stack.push(token);
                 return;
             }
 
-            pushOperatorWithPrecedence(op, stack, output);
+            pushOperatorWithPrecedence(token, stack, output);
             return;
         }
 
@@ -89,12 +120,13 @@ public class DefaultRpnParser implements RpnParser {
         output.add(token);
     }
 
-    private void pushOperatorWithPrecedence(Operator op, Deque<String> stack, List<String> output) {
+    private void pushOperatorWithPrecedence(Token token, Deque<Token> stack, List<Token> output) {
+        Operator op = token.operator();
+
         while (!stack.isEmpty()) {
-            Optional<Operator> topOpt = OperatorFactory.get(stack.peek());
-            if (topOpt.isEmpty()) break;
+            if (!stack.peek().isOperator()) break;
 
-            Operator top = topOpt.get();
+            Operator top = stack.peek().operator();
 
             boolean shouldPop =
                     (op.isLeftAssociative() && top.getPrecedence() >= op.getPrecedence()) ||
@@ -105,28 +137,28 @@ public class DefaultRpnParser implements RpnParser {
             output.add(stack.pop());
         }
 
-        stack.push(op.getSymbol());
+        stack.push(token);
     }
 
-    private void drainUntilLeftParen(Deque<String> stack, List<String> output) {
-        while (!stack.isEmpty() && !LEFT_PAREN.equals(stack.peek())) {
+    private void drainUntilLeftParen(Deque<Token> stack, List<Token> output) {
+        while (!stack.isEmpty() && !stack.peek().is(TokenKind.LEFT_PAREN)) {
             output.add(stack.pop());
         }
 
-        if (!stack.isEmpty() && LEFT_PAREN.equals(stack.peek())) {
+        if (!stack.isEmpty() && stack.peek().is(TokenKind.LEFT_PAREN)) {
             stack.pop();
         }
 
         // if function on top → output it
         if (!stack.isEmpty()) {
-            Optional<Operator> topOp = OperatorFactory.get(stack.peek());
-            if (topOp.isPresent() && topOp.get().getOperandCount() == 1) {
+            Token top = stack.peek();
+            if (top.isOperator() && top.operator().getOperandCount() == 1) {
                 output.add(stack.pop());
             }
         }
     }
 
-    private void drainStack(Deque<String> stack, List<String> output) {
+    private void drainStack(Deque<Token> stack, List<Token> output) {
         while (!stack.isEmpty()) {
             output.add(stack.pop());
         }
@@ -0,0 +1,249 @@
+package org.example.core.parser;
+
+import lombok.RequiredArgsConstructor;
+import org.example.core.ast.ExpressionOptimizer;
+import org.example.core.exception.LexicalException;
+import org.example.core.lexer.Lexer;
+import org.example.core.metrics.LexEvent;
+import org.example.core.metrics.Metrics;
+import org.example.core.metrics.OptimizeEvent;
+import org.example.core.metrics.ParseEvent;
+import org.example.core.metrics.Stage;
+import org.example.core.metrics.ValidateEvent;
+import org.example.core.token.Token;
+import org.example.core.validation.Diagnostic;
+import org.example.core.validation.DiagnosticCode;
+import org.example.core.validation.TokenStreamValidator;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * ExpressionCompiler — combined validate-and-parse stage.
+ * The source is scanned exactly once; emptiness, parenthesis balance and
+ * function-call shape are checked on that token stream before it is turned into RPN,
+ * and the resulting program is passed through the {@link ExpressionOptimizer}.
+ * Each stage is timed into {@link Metrics} and reported as a JFR event.
+ */
+@RequiredArgsConstructor
+public class ExpressionCompiler {
+
+    private final ExpressionParser expressionParser;
+    private final RpnParser rpnParser;
+    private final ExpressionOptimizer optimizer;
+    private final TokenStreamValidator tokenValidator = new TokenStreamValidator();
+
+    public ExpressionCompiler(ExpressionParser expressionParser, RpnParser rpnParser) {
+        this(expressionParser, rpnParser, ExpressionOptimizer.fromConfig());
+    }
+
+    public ParseResult<RpnProgram> compile(String expr) {
+        if (Objects.isNull(expr) || expr.isBlank()) {
+            return ParseResult.failure(Diagnostic.of(DiagnosticCode.EMPTY_EXPRESSION, "Expression is empty"));
+        }
+
+        int length = expr.length();
+        List<Token> tokens = null;
+        LexEvent lex = new LexEvent();
+        lex.begin();
+        long start = Metrics.start();
+        try {
+            tokens = expressionParser.parseTokens(expr);
+        } catch (LexicalException e) {
+            return ParseResult.failure(Diagnostic.of(DiagnosticCode.LEXICAL_ERROR, e.getMessage()));
+        } finally {
+            // Rejected inputs are timed and reported too, with no token count.
+            Metrics.record(Stage.LEX, start);
+            lex.complete(length, tokens == null ? -1 : tokens.size());
+        }
+
+        ValidateEvent validate = new ValidateEvent();
+        validate.begin();
+        start = Metrics.start();
+        Optional<Diagnostic> problem = tokenValidator.check(tokens);
+        Metrics.record(Stage.VALIDATE, start);
+        validate.complete(length, tokens.size());
+        if (problem.isPresent()) {
+            return ParseResult.failure(problem.get());
+        }
+
+        ParseEvent parse = new ParseEvent();
+        parse.begin();
+        start = Metrics.start();
+        RpnProgram program = rpnParser.toProgram(tokens);
+        Metrics.record(Stage.PARSE, start);
+        parse.complete(length, tokens.size());
+
+        OptimizeEvent optimize = new OptimizeEvent();
+        optimize.begin();
+        start = Metrics.start();
+        RpnProgram optimized = optimizer.optimize(program);
+        Metrics.record(Stage.OPTIMIZE, start);
+        optimize.complete(length, optimized.size());
+
+        return ParseResult.success(optimized);
+    }
+
+    /**
+     * Starts compiling an expression that arrives in pieces, e.g. the lines of a REPL
+     * entry, joined by single spaces.
+     */
+    public Session session() {
+        return new Session();
+    }
+
+    /**
+     * Compilation state of one piecewise expression; not thread-safe. Every piece is
+     * lexed, validated and run through the shunting-yard as it is fed, so the first
+     * problem is reported by the piece that causes it and {@link #finish()} is left with
+     * draining the operator stack and optimizing. After a failure further pieces are
+     * ignored and {@link #finish()} returns that failure.
+     *
+     * <p>Lexing and validation are timed and reported per piece, like {@link #compile}
+     * does for a whole expression; shunting-yard time is summed over the pieces and
+     * recorded as one {@link Stage#PARSE} sample per entry.
+     */
+    public final class Session {
+
+        private final StringBuilder source = new StringBuilder();
+        private final Lexer.Session lexer = expressionParser.session();
+        private final TokenStreamValidator.Session validator = tokenValidator.session();
+        private final RpnParser.Conversion conversion = rpnParser.conversion();
+        private int pieces;
+        private int tokenCount;
+        private long parseNanos;
+        private Diagnostic failure;
+
+        private Session() {
+        }
+
+        /**
+         * @return the problem this piece revealed, if any
+         */
+        public Optional<Diagnostic> feed(String piece) {
+            if (failure != null) {
+                return Optional.empty();
+            }
+            if (!source.isEmpty()) {
+                source.append(' ');
+            }
+            source.append(piece);
+            pieces++;
+
+            List<Token> tokens = null;
+            LexEvent lex = new LexEvent();
+            lex.begin();
+            long start = Metrics.start();
+            try {
+                tokens = lexer.feed(piece);
+            } catch (LexicalException e) {
+                return fail(Diagnostic.of(DiagnosticCode.LEXICAL_ERROR, e.getMessage()));
+            } finally {
+                Metrics.record(Stage.LEX, start);
+                lex.complete(piece.length(), tokens == null ? -1 : tokens.size());
+            }
+            return accept(piece.length(), tokens);
+        }
+
+        public ParseResult<RpnProgram> finish() {
+            if (failure == null && source.toString().isBlank()) {
+                fail(Diagnostic.of(DiagnosticCode.EMPTY_EXPRESSION, "Expression is empty"));
+            }
+            if (failure == null) {
+                List<Token> rest = null;
+                LexEvent lex = new LexEvent();
+                lex.begin();
+                long start = Metrics.start();
+                try {
+                    rest = lexer.finish();
+                } catch (LexicalException e) {
+                    fail(Diagnostic.of(DiagnosticCode.LEXICAL_ERROR, e.getMessage()));
+                } finally {
+                    Metrics.record(Stage.LEX, start);
+                    lex.complete(0, rest == null ? -1 : rest.size());
+                }
+                if (rest != null) {
+                    accept(0, rest);
+                }
+            }
+            if (failure == null) {
+                validator.finish().ifPresent(this::fail);
+            }
+            if (failure != null) {
+                return ParseResult.failure(failure);
+            }
+
+            int length = source.length();
+            ParseEvent parse = new ParseEvent();
+            parse.begin();
+            long start = Metrics.start();
+            RpnProgram program = RpnProgram.of(conversion.finish());
+            Metrics.recordElapsed(Stage.PARSE, parseNanos + Metrics.elapsed(start));
+            parse.complete(length, tokenCount);
+
+            OptimizeEvent optimize = new OptimizeEvent();
+            optimize.begin();
+            start = Metrics.start();
+            RpnProgram optimized = optimizer.optimize(program);
+            Metrics.record(Stage.OPTIMIZE, start);
+            optimize.complete(length, optimized.size());
+
+            return ParseResult.success(optimized);
+        }
+
+        /**
+         * The pieces fed so far, joined by single spaces.
+         */
+        public String source() {
+            return source.toString();
+        }
+
+        /**
+         * Number of pieces fed so far, including the one that failed.
+         */
+        public int pieces() {
+            return pieces;
+        }
+
+        public boolean failed() {
+            return failure != null;
+        }
+
+        /**
+         * Validates one piece's tokens and feeds them to the shunting-yard.
+         *
+         * @param length characters of source the tokens were scanned from
+         */
+        private Optional<Diagnostic> accept(int length, List<Token> tokens) {
+            ValidateEvent validate = new ValidateEvent();
+            validate.begin();
+            long start = Metrics.start();
+            Optional<Diagnostic> problem = Optional.empty();
+            for (Token token : tokens) {
+                problem = validator.accept(token);
+                if (problem.isPresent()) {
+                    break;
+                }
+            }
+            Metrics.record(Stage.VALIDATE, start);
+            validate.complete(length, tokens.size());
+            if (problem.isPresent()) {
+                return fail(problem.get());
+            }
+
+            start = Metrics.start();
+            for (Token token : tokens) {
+                conversion.accept(token);
+            }
+            parseNanos += Metrics.elapsed(start);
+            tokenCount += tokens.size();
+            return Optional.empty();
+        }
+
+        private Optional<Diagnostic> fail(Diagnostic diagnostic) {
+            failure = diagnostic;
+            return Optional.of(diagnostic);
+        }
+    }
+}
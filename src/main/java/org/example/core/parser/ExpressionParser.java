@@ -1,5 +1,9 @@
 package org.example.core.parser;
 
+import org.example.core.lexer.Lexer;
+import org.example.core.token.Token;
+import org.example.core.token.Tokens;
+
 import java.util.List;
 
 /**
@@ -8,5 +12,18 @@ import java.util.List;
  */
 public interface ExpressionParser {
 
-    List<String> parse(String input);
-}
\ No newline at end of file
+    List<Token> parseTokens(String input);
+
+    /**
+     * Starts tokenizing input that arrives in pieces joined by single spaces; the default
+     * buffers the pieces and tokenizes once at the end.
+     */
+    default Lexer.Session session() {
+        Lexer lexer = this::parseTokens;
+        return lexer.session();
+    }
+
+    default List<String> parse(String input) {
+        return Tokens.texts(parseTokens(input));
+    }
+}
@@ -2,6 +2,7 @@ package org.example.core.parser;
 
 import lombok.RequiredArgsConstructor;
 import org.example.core.lexer.Lexer;
+import org.example.core.token.Token;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,9 +16,14 @@ public class InfixExpressionParser implements ExpressionParser {
     private final Lexer lexer;
 
     @Override
-    public List<String> parse(String input) {
+    public List<Token> parseTokens(String input) {
         return Optional.ofNullable(input)
-                .map(lexer::tokenize)
+                .map(lexer::scan)
                 .orElse(List.of());
     }
+
+    @Override
+    public Lexer.Session session() {
+        return lexer.session();
+    }
 }
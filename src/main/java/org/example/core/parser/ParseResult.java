@@ -0,0 +1,36 @@
+package org.example.core.parser;
+
+import org.example.core.validation.Diagnostic;
+
+import java.util.function.Function;
+
+/**
+ * Outcome of the validate-and-parse stage: either a value or a structured diagnostic.
+ */
+public sealed interface ParseResult<T> {
+
+    record Success<T>(T value) implements ParseResult<T> {
+    }
+
+    record Failure<T>(Diagnostic diagnostic) implements ParseResult<T> {
+    }
+
+    static <T> ParseResult<T> success(T value) {
+        return new Success<>(value);
+    }
+
+    static <T> ParseResult<T> failure(Diagnostic diagnostic) {
+        return new Failure<>(diagnostic);
+    }
+
+    default boolean isSuccess() {
+        return this instanceof Success<T>;
+    }
+
+    default <R> ParseResult<R> map(Function<? super T, ? extends R> mapper) {
+        if (this instanceof Success<T> success) {
+            return new Success<>(mapper.apply(success.value()));
+        }
+        return new Failure<>(((Failure<T>) this).diagnostic());
+    }
+}
@@ -1,7 +1,53 @@
 package org.example.core.parser;
 
+import org.example.core.token.Token;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public interface RpnParser {
+
+    List<Token> toRpnTokens(List<Token> tokens);
+
+    default RpnProgram toProgram(List<Token> tokens) {
+        return RpnProgram.of(toRpnTokens(tokens));
+    }
+
+    /**
+     * Starts a conversion fed one infix token at a time. This default collects the tokens
+     * and converts them in {@link Conversion#finish()}; streaming parsers override it.
+     */
+    default Conversion conversion() {
+        List<Token> infix = new ArrayList<>();
+        return new Conversion() {
+            @Override
+            public void accept(Token token) {
+                infix.add(token);
+            }
+
+            @Override
+            public List<Token> finish() {
+                return toRpnTokens(infix);
+            }
+        };
+    }
+
+    /**
+     * String adapter over {@link #toRpnTokens(List)}; tokens are re-classified on the way
+     * in against this parser's own operator table.
+     */
     List<String> toRpn(List<String> tokens);
-}
\ No newline at end of file
+
+    /**
+     * State of one infix-to-RPN conversion; not thread-safe.
+     */
+    interface Conversion {
+
+        void accept(Token token);
+
+        /**
+         * Completes the conversion and returns the whole RPN sequence.
+         */
+        List<Token> finish();
+    }
+}
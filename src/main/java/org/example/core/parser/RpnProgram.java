@@ -0,0 +1,157 @@
+package org.example.core.parser;
+
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RpnProgram — immutable postfix token sequence together with the operand stack
+ * depth it needs, so evaluators can size their stack once up front.
+ * Identifiers are resolved to variable slots in order of first appearance;
+ * evaluation reads them from a {@code double[]} of bindings by index.
+ * Temporaries written by {@code STORE} tokens live in the same scratch array as the
+ * operand stack, right above it, starting at {@link #operandDepth()}.
+ */
+public final class RpnProgram {
+
+    private static final RpnProgram EMPTY = new RpnProgram(List.of(), 0, List.of(), 0, 0);
+
+    private final List<Token> tokens;
+    private final int operandDepth;
+    private final List<String> variables;
+    private final int temporaryCount;
+    private final int savedApplications;
+
+    private RpnProgram(List<Token> tokens, int operandDepth, List<String> variables,
+                       int temporaryCount, int savedApplications) {
+        this.tokens = tokens;
+        this.operandDepth = operandDepth;
+        this.variables = variables;
+        this.temporaryCount = temporaryCount;
+        this.savedApplications = savedApplications;
+    }
+
+    public static RpnProgram of(List<Token> rpnTokens) {
+        return of(rpnTokens, List.of());
+    }
+
+    /**
+     * Like {@link #of(List)}, but {@code variables} keep slots {@code 0..n-1} even if
+     * they no longer occur in the sequence, e.g. after an optimizer dropped them.
+     */
+    public static RpnProgram of(List<Token> rpnTokens, List<String> variables) {
+        if ((rpnTokens == null || rpnTokens.isEmpty()) && variables.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        for (String variable : variables) {
+            slots.putIfAbsent(variable, slots.size());
+        }
+        List<Token> source = rpnTokens == null ? List.of() : rpnTokens;
+        List<Token> tokens = new ArrayList<>(source.size());
+
+        for (Token token : source) {
+            tokens.add(token.is(TokenKind.IDENTIFIER)
+                    ? Token.variable(token.text(), slots.computeIfAbsent(token.text(), name -> slots.size()))
+                    : token);
+        }
+
+        List<Token> resolved = List.copyOf(tokens);
+        return new RpnProgram(resolved, computeOperandDepth(resolved), List.copyOf(slots.keySet()),
+                countTemporaries(resolved), 0);
+    }
+
+    /**
+     * Copy of this program recording how many operator applications the optimizer
+     * removed by sharing common subexpressions.
+     */
+    public RpnProgram withSavedApplications(int saved) {
+        return new RpnProgram(tokens, operandDepth, variables, temporaryCount, saved);
+    }
+
+    public List<Token> tokens() {
+        return tokens;
+    }
+
+    /**
+     * Scratch slots an evaluation needs: the operand stack plus all temporaries.
+     */
+    public int maxStackDepth() {
+        return operandDepth + temporaryCount;
+    }
+
+    /**
+     * Peak operand stack height; temporary {@code t} lives at scratch index
+     * {@code operandDepth() + t}.
+     */
+    public int operandDepth() {
+        return operandDepth;
+    }
+
+    public int temporaryCount() {
+        return temporaryCount;
+    }
+
+    public int savedApplications() {
+        return savedApplications;
+    }
+
+    /**
+     * Variable names indexed by slot.
+     */
+    public List<String> variables() {
+        return variables;
+    }
+
+    public int variableCount() {
+        return variables.size();
+    }
+
+    public int slotOf(String variable) {
+        return variables.indexOf(variable);
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    public boolean isEmpty() {
+        return tokens.isEmpty();
+    }
+
+    /**
+     * Simulates stack heights over the sequence. Malformed programs still get a
+     * usable bound; the evaluator reports the missing operands when it runs.
+     */
+    private static int computeOperandDepth(List<Token> tokens) {
+        int height = 0;
+        int max = 0;
+
+        for (Token token : tokens) {
+            if (token.is(TokenKind.STORE)) {
+                continue;
+            }
+            if (token.isOperator()) {
+                height = Math.max(0, height - token.operator().getOperandCount());
+            }
+            height++;
+            max = Math.max(max, height);
+        }
+        return max;
+    }
+
+    private static int countTemporaries(List<Token> tokens) {
+        int count = 0;
+        for (Token token : tokens) {
+            if (token.is(TokenKind.STORE) || token.is(TokenKind.LOAD)) {
+                count = Math.max(count, token.slot() + 1);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.core.token;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+
+/**
+ * NumberParser — converts a decimal literal straight from the source characters,
+ * bit-identical to {@link Double#parseDouble(String)}.
+ *
+ * <p>Plain literals ({@code digits[.digits]}) take one of two fast paths. A mantissa of
+ * at most 2<sup>53</sup> with at most 22 fraction digits uses Clinger's: mantissa and
+ * power of ten are both exact doubles, so one IEEE division is correctly rounded.
+ * Up to 19 significant digits use Eisel-Lemire: the 64-bit mantissa is multiplied by a
+ * 128-bit approximation of the power of ten, which decides the rounding except in rare
+ * near-halfway cases. Leading zeros are not significant, so {@code 0.000125} qualifies.
+ * Everything else, including exponents, undecided cases and malformed text, is handed
+ * to {@link Double#parseDouble(String)}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NumberParser {
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_SIGNIFICANT_DIGITS = 19;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // ===== Eisel-Lemire Tables =====
+    /** Smallest decimal exponent with a table entry; below it results are subnormal or zero. */
+    private static final int MIN_EXPONENT = -342;
+    private static final int EXPONENT_BIAS = 1023;
+
+    /** High and low words of the normalized 128-bit significand of 5<sup>q</sup>, q in [-342, 0]. */
+    private static final long[] POWER_HIGH = new long[1 - MIN_EXPONENT];
+    private static final long[] POWER_LOW = new long[1 - MIN_EXPONENT];
+
+    static {
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = MIN_EXPONENT; q <= 0; q++) {
+            BigInteger significand = significand(q);
+            POWER_HIGH[q - MIN_EXPONENT] = significand.shiftRight(64).longValue();
+            POWER_LOW[q - MIN_EXPONENT] = significand.and(mask).longValue();
+        }
+    }
+
+    public static double parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses {@code text[start, end)}.
+     *
+     * @throws NumberFormatException when {@link Double#parseDouble(String)} would
+     */
+    public static double parse(CharSequence text, int start, int end) {
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = -1;
+        boolean digits = false;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return fallback(text, start, end);
+            }
+            digits = true;
+            if (mantissa != 0 || c != '0') {
+                if (++significantDigits > MAX_SIGNIFICANT_DIGITS) {
+                    return fallback(text, start, end);
+                }
+            }
+            mantissa = mantissa * 10 + (c - '0');
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+
+        if (!digits) {
+            return fallback(text, start, end);
+        }
+        if (mantissa == 0) {
+            return 0.0;
+        }
+        int exponent = -Math.max(fractionDigits, 0);
+        if (Long.compareUnsigned(mantissa, MAX_EXACT_MANTISSA) <= 0 && -exponent < POWERS_OF_TEN.length) {
+            return exponent < 0
+                    ? mantissa / POWERS_OF_TEN[-exponent]
+                    : mantissa;
+        }
+        double value = eiselLemire(mantissa, exponent);
+        return Double.isNaN(value) ? fallback(text, start, end) : value;
+    }
+
+    // ===== Private Helpers =====
+
+    /**
+     * Correctly rounded {@code mantissa * 10^exponent} for a non-zero unsigned mantissa
+     * and {@code exponent <= 0}, or {@code NaN} when 128 bits cannot decide the rounding
+     * or the result is subnormal.
+     */
+    private static double eiselLemire(long mantissa, int exponent) {
+        if (exponent < MIN_EXPONENT) {
+            return Double.NaN;
+        }
+        int shift = Long.numberOfLeadingZeros(mantissa);
+        mantissa <<= shift;
+        long binaryExponent = ((217706L * exponent) >> 16) + 64 + EXPONENT_BIAS - shift;
+
+        int index = exponent - MIN_EXPONENT;
+        long high = Math.unsignedMultiplyHigh(mantissa, POWER_HIGH[index]);
+        long low = mantissa * POWER_HIGH[index];
+
+        // Only the top 55 bits matter; widen to the full 192-bit product when they may carry.
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + mantissa, mantissa) < 0) {
+            long nextHigh = Math.unsignedMultiplyHigh(mantissa, POWER_LOW[index]);
+            long nextLow = mantissa * POWER_LOW[index];
+            long mergedHigh = high;
+            long mergedLow = low + nextHigh;
+            if (Long.compareUnsigned(mergedLow, low) < 0) {
+                mergedHigh++;
+            }
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow + 1 == 0
+                    && Long.compareUnsigned(nextLow + mantissa, mantissa) < 0) {
+                return Double.NaN;
+            }
+            high = mergedHigh;
+            low = mergedLow;
+        }
+
+        long top = high >>> 63;
+        long significand = high >>> (top + 9);
+        binaryExponent -= 1 ^ top;
+
+        // Exactly halfway between two doubles: leave ties-to-even to the slow path.
+        if (low == 0 && (high & 0x1FF) == 0 && (significand & 3) == 1) {
+            return Double.NaN;
+        }
+
+        significand += significand & 1;
+        significand >>>= 1;
+        if (significand >>> 53 > 0) {
+            significand >>>= 1;
+            binaryExponent++;
+        }
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(binaryExponent << 52 | significand & 0x000F_FFFF_FFFF_FFFFL);
+    }
+
+    /**
+     * 5<sup>q</sup> scaled into [2<sup>127</sup>, 2<sup>128</sup>); negative powers are
+     * rounded up, as Eisel-Lemire requires.
+     */
+    private static BigInteger significand(int q) {
+        if (q == 0) {
+            return BigInteger.ONE.shiftLeft(127);
+        }
+        BigInteger power = BigInteger.valueOf(5).pow(-q);
+        int bits = power.subtract(BigInteger.ONE).bitLength();
+        int scale = q >= -27 ? bits + 127 : 2 * bits + 128;
+        BigInteger value = BigInteger.ONE.shiftLeft(scale).divide(power).add(BigInteger.ONE);
+        int excess = value.bitLength() - 128;
+        return excess > 0 ? value.shiftRight(excess) : value;
+    }
+
+    private static double fallback(CharSequence text, int start, int end) {
+        return Double.parseDouble(text.subSequence(start, end).toString());
+    }
+}
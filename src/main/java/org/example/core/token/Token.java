@@ -0,0 +1,154 @@
+package org.example.core.token;
+
+import org.example.core.operators.base.Operator;
+
+import java.util.Objects;
+
+/**
+ * Token — typed lexical unit shared by the lexer, parser and evaluator.
+ * Literals carry their pre-parsed value and operators their resolved instance,
+ * so later stages never re-parse text or repeat registry lookups.
+ * Variables carry the binding slot assigned at compile time; {@code STORE}/{@code LOAD}
+ * carry the index of a temporary.
+ *
+ * <p>Literals scanned from a source keep only the source and their range; the text is
+ * cut out on first {@link #text()} call, which the evaluation path never makes.
+ * Equality is by value, as for a record of {@code (kind, text, value, operator, slot)}.
+ */
+public final class Token {
+
+    private static final int NO_SLOT = -1;
+
+    private final TokenKind kind;
+    private final double value;
+    private final Operator operator;
+    private final int slot;
+
+    private final String source;
+    private final int start;
+    private final int end;
+
+    /** Racy single-check cache: every thread computes the same immutable string. */
+    private String text;
+
+    public Token(TokenKind kind, String text, double value, Operator operator, int slot) {
+        this(kind, text, null, 0, 0, value, operator, slot);
+    }
+
+    private Token(TokenKind kind, String text, String source, int start, int end,
+                  double value, Operator operator, int slot) {
+        this.kind = kind;
+        this.text = text;
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        this.value = value;
+        this.operator = operator;
+        this.slot = slot;
+    }
+
+    public static Token number(String text, double value) {
+        return new Token(TokenKind.NUMBER, text, value, null, NO_SLOT);
+    }
+
+    /**
+     * A literal spelled by {@code source[start, end)}, without copying the characters.
+     */
+    public static Token number(String source, int start, int end, double value) {
+        return new Token(TokenKind.NUMBER, null, source, start, end, value, null, NO_SLOT);
+    }
+
+    public static Token operator(String text, Operator operator) {
+        TokenKind kind = operator.isFunction() ? TokenKind.FUNCTION : TokenKind.OPERATOR;
+        return new Token(kind, text, Double.NaN, operator, NO_SLOT);
+    }
+
+    public static Token identifier(String text) {
+        return new Token(TokenKind.IDENTIFIER, text, Double.NaN, null, NO_SLOT);
+    }
+
+    public static Token variable(String text, int slot) {
+        return new Token(TokenKind.VARIABLE, text, Double.NaN, null, slot);
+    }
+
+    /**
+     * Copies the top of the operand stack into temporary {@code temp}, leaving it in place.
+     */
+    public static Token store(int temp) {
+        return new Token(TokenKind.STORE, "=t" + temp, Double.NaN, null, temp);
+    }
+
+    /**
+     * Pushes the value of temporary {@code temp}.
+     */
+    public static Token load(int temp) {
+        return new Token(TokenKind.LOAD, "t" + temp, Double.NaN, null, temp);
+    }
+
+    public static Token leftParen(String text) {
+        return new Token(TokenKind.LEFT_PAREN, text, Double.NaN, null, NO_SLOT);
+    }
+
+    public static Token rightParen(String text) {
+        return new Token(TokenKind.RIGHT_PAREN, text, Double.NaN, null, NO_SLOT);
+    }
+
+    public static Token unknown(String text) {
+        return new Token(TokenKind.UNKNOWN, text, Double.NaN, null, NO_SLOT);
+    }
+
+    // ===== Accessors =====
+
+    public TokenKind kind() {
+        return kind;
+    }
+
+    public String text() {
+        String cached = text;
+        if (cached == null) {
+            cached = source.substring(start, end);
+            text = cached;
+        }
+        return cached;
+    }
+
+    public double value() {
+        return value;
+    }
+
+    public Operator operator() {
+        return operator;
+    }
+
+    public int slot() {
+        return slot;
+    }
+
+    public boolean is(TokenKind expected) {
+        return kind == expected;
+    }
+
+    public boolean isOperator() {
+        return operator != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Token that
+                && kind == that.kind
+                && Double.compare(value, that.value) == 0
+                && Objects.equals(operator, that.operator)
+                && slot == that.slot
+                && text().equals(that.text());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, text(), value, operator, slot);
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.core.token;
+
+/**
+ * Lexical category of a {@link Token}. {@code STORE} and {@code LOAD} never come
+ * from the lexer; the optimizer emits them to spill and reuse shared subexpressions.
+ */
+public enum TokenKind {
+    NUMBER,
+    IDENTIFIER,
+    VARIABLE,
+    OPERATOR,
+    FUNCTION,
+    LEFT_PAREN,
+    RIGHT_PAREN,
+    STORE,
+    LOAD,
+    UNKNOWN
+}
@@ -0,0 +1,86 @@
+package org.example.core.token;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.config.OperatorConfig;
+import org.example.core.operators.base.Operator;
+import org.example.core.operators.factory.OperatorSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adapters between the typed token model and the legacy {@code List<String>} form.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Tokens {
+
+    public static List<String> texts(List<Token> tokens) {
+        List<String> texts = new ArrayList<>(tokens.size());
+        for (Token token : tokens) {
+            texts.add(token.text());
+        }
+        return List.copyOf(texts);
+    }
+
+    public static List<Token> classify(List<String> texts, OperatorSnapshot operators) {
+        List<Token> tokens = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            tokens.add(classify(text, operators));
+        }
+        return List.copyOf(tokens);
+    }
+
+    /**
+     * Rebuilds a typed token from its text: operators registered in {@code operators}
+     * resolve to their instance, parseable literals become numbers, words become identifiers.
+     * There is deliberately no overload for the process-wide registry; callers pass the
+     * table of the engine the tokens belong to.
+     */
+    public static Token classify(String text, OperatorSnapshot operators) {
+        if (text == null || text.isEmpty()) {
+            return Token.unknown(String.valueOf(text));
+        }
+
+        Operator op = operators.operator(text);
+        if (op != null) {
+            return Token.operator(text, op);
+        }
+
+        char first = text.charAt(0);
+
+        if (text.length() == 1 && first == OperatorConfig.leftParen()) {
+            return Token.leftParen(text);
+        }
+        if (text.length() == 1 && first == OperatorConfig.rightParen()) {
+            return Token.rightParen(text);
+        }
+        if (Character.isDigit(first) || first == '.') {
+            return parseNumber(text);
+        }
+        if (Character.isLetter(first)) {
+            return Token.identifier(text);
+        }
+        return Token.unknown(text);
+    }
+
+    public static Token parseNumber(String text) {
+        try {
+            return Token.number(text, NumberParser.parse(text));
+        } catch (NumberFormatException e) {
+            return Token.unknown(text);
+        }
+    }
+
+    /**
+     * Parses the literal at {@code source[start, end)} in place; the token keeps the
+     * range and only copies its text when asked for it.
+     */
+    public static Token parseNumber(String source, int start, int end) {
+        try {
+            return Token.number(source, start, end, NumberParser.parse(source, start, end));
+        } catch (NumberFormatException e) {
+            return Token.unknown(source.substring(start, end));
+        }
+    }
+}
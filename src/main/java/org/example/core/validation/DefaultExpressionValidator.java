@@ -1,6 +1,9 @@
 package org.example.core.validation;
 
 import org.example.core.lexer.Lexer;
+import org.example.core.metrics.Metrics;
+import org.example.core.metrics.Stage;
+import org.example.core.metrics.ValidateEvent;
 
 import java.util.List;
 
@@ -19,9 +22,17 @@ public class DefaultExpressionValidator implements ExpressionValidator {
 
     @Override
     public boolean validate(String expr) {
-        for (ExpressionValidator v : validators) {
-            if (!v.validate(expr)) return false; // FAIL FAST
+        ValidateEvent event = new ValidateEvent();
+        event.begin();
+        long start = Metrics.start();
+        try {
+            for (ExpressionValidator v : validators) {
+                if (!v.validate(expr)) return false; // FAIL FAST
+            }
+            return true;
+        } finally {
+            Metrics.record(Stage.VALIDATE, start);
+            event.complete(expr == null ? 0 : expr.length(), -1);
         }
-        return true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package org.example.core.validation;
+
+/**
+ * Structured description of why an expression was rejected.
+ *
+ * @param tokenIndex index of the offending token, or {@code -1} when the problem
+ *                   is not tied to a single token
+ */
+public record Diagnostic(DiagnosticCode code, String message, int tokenIndex) {
+
+    public static Diagnostic of(DiagnosticCode code, String message) {
+        return new Diagnostic(code, message, -1);
+    }
+
+    public static Diagnostic at(DiagnosticCode code, String message, int tokenIndex) {
+        return new Diagnostic(code, message, tokenIndex);
+    }
+}
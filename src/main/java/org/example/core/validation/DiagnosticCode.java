@@ -0,0 +1,12 @@
+package org.example.core.validation;
+
+/**
+ * Categories of problems reported by the single-pass validation stage.
+ */
+public enum DiagnosticCode {
+    EMPTY_EXPRESSION,
+    LEXICAL_ERROR,
+    UNBALANCED_PARENTHESES,
+    MISSING_FUNCTION_ARGUMENTS,
+    EMPTY_FUNCTION_CALL
+}
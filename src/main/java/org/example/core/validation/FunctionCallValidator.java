@@ -2,30 +2,28 @@ package org.example.core.validation;
 
 import lombok.RequiredArgsConstructor;
 import org.example.core.lexer.Lexer;
-import org.example.core.operators.factory.OperatorFactory;
 import org.example.core.exception.LexicalException;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
 
 import java.util.List;
-import java.util.Set;
 
 @RequiredArgsConstructor
 public class FunctionCallValidator implements ExpressionValidator {
 
     private final Lexer lexer;
-    private final Set<String> functions = OperatorFactory.getFunctionNames();
 
     @Override
     public boolean validate(String expr) {
         try {
-            List<String> tokens = lexer.tokenize(expr);
+            List<Token> tokens = lexer.scan(expr);
 
             for (int i = 0; i < tokens.size(); i++) {
-                String t = tokens.get(i);
-                if (functions.contains(t)) {
-                    if (i == tokens.size() - 1 || !tokens.get(i + 1).equals("(")) {
+                if (tokens.get(i).is(TokenKind.FUNCTION)) {
+                    if (i == tokens.size() - 1 || !tokens.get(i + 1).is(TokenKind.LEFT_PAREN)) {
                         return false;
                     }
-                    if (i + 2 < tokens.size() && tokens.get(i + 2).equals(")")) {
+                    if (i + 2 < tokens.size() && tokens.get(i + 2).is(TokenKind.RIGHT_PAREN)) {
                         return false;
                     }
                 }
@@ -0,0 +1,116 @@
+package org.example.core.validation;
+
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TokenStreamValidator — checks parenthesis balance and function-call shape on an
+ * already scanned token stream, in one pass and without re-reading the source.
+ * Mirrors {@link ParenthesesValidator} and {@link FunctionCallValidator}.
+ */
+public final class TokenStreamValidator {
+
+    public Optional<Diagnostic> check(List<Token> tokens) {
+        Session session = session();
+        for (Token token : tokens) {
+            Optional<Diagnostic> problem = session.accept(token);
+            if (problem.isPresent()) {
+                return problem;
+            }
+        }
+        return session.finish();
+    }
+
+    /**
+     * Starts a check fed one token at a time; reports the same first problem as
+     * {@link #check(List)}, as soon as the tokens seen so far prove it.
+     */
+    public Session session() {
+        return new Session();
+    }
+
+    /**
+     * State of one streamed check; not thread-safe.
+     */
+    public static final class Session {
+
+        private static final int NONE = -1;
+
+        private int index;
+        private int depth;
+
+        /** Function awaiting its {@code (}, then its first argument; {@link #NONE} otherwise. */
+        private int function = NONE;
+        private String functionName;
+        private boolean openSeen;
+
+        private Session() {
+        }
+
+        public Optional<Diagnostic> accept(Token token) {
+            int i = index++;
+
+            if (function != NONE) {
+                Optional<Diagnostic> call = continueFunctionCall(token);
+                if (call.isPresent()) {
+                    return call;
+                }
+            }
+
+            switch (token.kind()) {
+                case LEFT_PAREN -> depth++;
+                case RIGHT_PAREN -> {
+                    if (--depth < 0) {
+                        return Optional.of(Diagnostic.at(DiagnosticCode.UNBALANCED_PARENTHESES,
+                                "Unexpected '" + token.text() + "'", i));
+                    }
+                }
+                case FUNCTION -> {
+                    function = i;
+                    functionName = token.text();
+                    openSeen = false;
+                }
+                default -> { }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Checks what remains once the last token has been accepted.
+         */
+        public Optional<Diagnostic> finish() {
+            if (function != NONE && !openSeen) {
+                return Optional.of(missingArguments());
+            }
+            return depth == 0
+                    ? Optional.empty()
+                    : Optional.of(Diagnostic.of(DiagnosticCode.UNBALANCED_PARENTHESES,
+                            "Missing " + depth + " closing parenthesis"));
+        }
+
+        private Optional<Diagnostic> continueFunctionCall(Token token) {
+            if (!openSeen) {
+                if (!token.is(TokenKind.LEFT_PAREN)) {
+                    return Optional.of(missingArguments());
+                }
+                openSeen = true;
+                return Optional.empty();
+            }
+
+            int at = function;
+            function = NONE;
+            return token.is(TokenKind.RIGHT_PAREN)
+                    ? Optional.of(Diagnostic.at(DiagnosticCode.EMPTY_FUNCTION_CALL,
+                            "Function '" + functionName + "' has no argument", at))
+                    : Optional.empty();
+        }
+
+        private Diagnostic missingArguments() {
+            return Diagnostic.at(DiagnosticCode.MISSING_FUNCTION_ARGUMENTS,
+                    "Function '" + functionName + "' must be followed by '('", function);
+        }
+    }
+}
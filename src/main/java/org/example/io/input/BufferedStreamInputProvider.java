@@ -0,0 +1,41 @@
+package org.example.io.input;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * Stream-based input implementation for non-interactive use: no prompt, a large
+ * read buffer, and {@code null} at end of input.
+ */
+public class BufferedStreamInputProvider implements InputProvider {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader reader;
+
+    public BufferedStreamInputProvider(InputStream in, Charset charset) {
+        this.reader = new BufferedReader(new InputStreamReader(in, charset), BUFFER_SIZE);
+    }
+
+    @Override
+    public String fetchInput() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasBufferedInput() {
+        try {
+            return reader.ready();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -5,4 +5,12 @@ package org.example.io.input;
  */
 public interface InputProvider {
     String fetchInput();
+
+    /**
+     * Whether the next {@link #fetchInput()} can return without blocking; sources that
+     * cannot tell report {@code false}.
+     */
+    default boolean hasBufferedInput() {
+        return false;
+    }
 }
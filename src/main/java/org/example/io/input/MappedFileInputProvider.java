@@ -0,0 +1,174 @@
+package org.example.io.input;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedFileInputProvider — reads lines from a memory-mapped byte range of a file.
+ * Line boundaries are found directly in the mapped bytes: {@link #advance()} moves to
+ * the next line and {@link #copyLine(byte[])} exposes its raw bytes, so callers that
+ * can work on bytes never create a {@code String}. {@link #fetchInput()} decodes one
+ * for callers that need it.
+ *
+ * <p>The range is mapped in windows of at most {@value #WINDOW_BYTES} bytes, each
+ * ending on a line boundary, so files larger than a single mapping are supported.
+ * A trailing {@code '\r'} is stripped, so CRLF files read the same as LF files.
+ */
+public final class MappedFileInputProvider implements InputProvider, Closeable {
+
+    static final int WINDOW_BYTES = 1 << 30;
+
+    private static final int SCAN_BYTES = 8192;
+
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long end;
+
+    private long windowStart;
+    private MappedByteBuffer window;
+    private int position;
+
+    private int lineStart;
+    private int lineLength;
+
+    public MappedFileInputProvider(Path file) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.READ), true);
+    }
+
+    /**
+     * Reads {@code [from, to)} of a channel the caller keeps open; both offsets
+     * should be line starts (see {@link #lineStartAt}).
+     */
+    public MappedFileInputProvider(FileChannel channel, long from, long to) {
+        this.channel = channel;
+        this.ownsChannel = false;
+        this.windowStart = from;
+        this.end = to;
+    }
+
+    private MappedFileInputProvider(FileChannel channel, boolean ownsChannel) throws IOException {
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.windowStart = 0;
+        this.end = channel.size();
+    }
+
+    @Override
+    public String fetchInput() {
+        if (!advance()) {
+            return null;
+        }
+        byte[] line = new byte[lineLength];
+        copyLine(line);
+        return new String(line, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Moves to the next line.
+     *
+     * @return {@code false} once the range is exhausted
+     * @throws UncheckedIOException when mapping fails or a line does not fit one window
+     */
+    public boolean advance() {
+        while (true) {
+            if (window == null || position >= window.limit()) {
+                long next = window == null ? windowStart : windowStart + position;
+                if (next >= end) {
+                    return false;
+                }
+                map(next);
+            }
+
+            int limit = window.limit();
+            int newline = indexOfNewline(window, position, limit);
+            if (newline == limit && windowStart + limit < end) {
+                if (position == 0) {
+                    throw new UncheckedIOException(new IOException(
+                            "Line at offset " + windowStart + " exceeds " + WINDOW_BYTES + " bytes"));
+                }
+                map(windowStart + position);
+                continue;
+            }
+
+            lineStart = position;
+            lineLength = newline - position;
+            if (lineLength > 0 && window.get(newline - 1) == '\r') {
+                lineLength--;
+            }
+            position = newline + 1;
+            return true;
+        }
+    }
+
+    public int lineLength() {
+        return lineLength;
+    }
+
+    /**
+     * Copies the current line into {@code target}, which must hold {@link #lineLength()} bytes.
+     */
+    public void copyLine(byte[] target) {
+        window.get(lineStart, target, 0, lineLength);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        if (ownsChannel) {
+            channel.close();
+        }
+    }
+
+    /**
+     * First line start at or after {@code offset}; the file size when no line starts there.
+     */
+    public static long lineStartAt(FileChannel channel, long offset) throws IOException {
+        long size = channel.size();
+        if (offset <= 0) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BYTES);
+        long position = offset - 1;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            int newline = indexOfNewline(buffer, 0, read);
+            if (newline < read) {
+                return position + newline + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    // ===== Private Helpers =====
+
+    private void map(long offset) {
+        try {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_BYTES, end - offset));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        windowStart = offset;
+        position = 0;
+    }
+
+    private static int indexOfNewline(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return to;
+    }
+}
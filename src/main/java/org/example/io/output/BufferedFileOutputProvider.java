@@ -0,0 +1,57 @@
+package org.example.io.output;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * File-based output implementation with a large write buffer.
+ * Errors are written in place, so every input line keeps exactly one output line.
+ */
+public class BufferedFileOutputProvider implements OutputProvider, Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedWriter writer;
+
+    public BufferedFileOutputProvider(Path file) throws IOException {
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(String message) {
+        try {
+            writer.write(message);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void displayError(String message) {
+        write(message);
+    }
+
+    /**
+     * Writes pre-formatted lines, e.g. the output of one batch chunk.
+     */
+    public void append(CharSequence lines) {
+        try {
+            writer.append(lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.io.output;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Stream-based output implementation that batches results and errors in large buffers
+ * until {@link #flush()}, instead of one system call per line.
+ */
+public class BufferedStreamOutputProvider implements OutputProvider {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedWriter out;
+    private final BufferedWriter err;
+
+    public BufferedStreamOutputProvider(OutputStream out, OutputStream err, Charset charset) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, charset), BUFFER_SIZE);
+        this.err = new BufferedWriter(new OutputStreamWriter(err, charset), BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(String message) {
+        writeLine(out, message);
+    }
+
+    @Override
+    public void displayError(String message) {
+        writeLine(err, message);
+    }
+
+    @Override
+    public void flush() {
+        try {
+            out.flush();
+            err.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeLine(Writer writer, String message) {
+        try {
+            writer.write(message);
+            writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.io.output;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.core.exception.EvaluationException;
+
+/**
+ * ErrorMessages — the error line for a failed evaluation, shared by the REPL, batch
+ * files and both servers so every front end words failures the same way.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ErrorMessages {
+
+    public static String of(Throwable e) {
+        if (e instanceof ArithmeticException) {
+            return "[MATH] " + e.getMessage();
+        }
+        if (e instanceof EvaluationException) {
+            return "[EVAL] " + e.getMessage();
+        }
+        return "[UNEXPECTED] " + e.getMessage();
+    }
+}
@@ -6,4 +6,10 @@ package org.example.io.output;
 public interface OutputProvider {
     void write(String message);
     void displayError(String message);
+
+    /**
+     * Pushes buffered output to its target; a no-op for unbuffered providers.
+     */
+    default void flush() {
+    }
 }
@@ -0,0 +1,218 @@
+package org.example.io.output;
+
+import org.example.config.CalculatorConfig;
+import org.example.config.OperatorConfig;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RecordFormatter — {@code operator.record.format} compiled once into literal and
+ * argument parts, producing exactly what {@code String.format(pattern, prefix, value,
+ * expression)} would, without re-parsing the pattern or boxing the value per call.
+ *
+ * <p>{@code %.Nf} is rendered from the scaled value directly. Java rounds the shortest
+ * decimal representation half-up rather than the exact binary value, so values whose
+ * scaled fraction lies within a few ulps of {@code .5}, very large values, and locales
+ * with a different decimal separator or zero digit go through {@link String#format}.
+ * Patterns using anything beyond {@code %s}, {@code %.Nf}, {@code %%} and {@code %n}
+ * (flags, widths, explicit indexes) are formatted with {@link String#format} as a whole.
+ * Instances are immutable and thread-safe; the locale is captured at construction.
+ */
+public final class RecordFormatter {
+
+    private static final Pattern SPECIFIER =
+            Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
+    private static final int PREFIX = 0;
+    private static final int VALUE = 1;
+    private static final int EXPRESSION = 2;
+
+    private static final int MAX_FAST_PRECISION = 9;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+    /** Scaled magnitudes below this keep well over one bit of fraction. */
+    private static final double MAX_FAST_SCALED = 0x1p50;
+    /** Ulps of the scaled value around {@code .5} treated as a possible tie. */
+    private static final double TIE_GUARD_ULPS = 4.0;
+
+    private final String pattern;
+    private final String prefix;
+    private final Locale locale;
+    private final List<Part> parts;
+    private final boolean fastDigits;
+
+    public RecordFormatter(String pattern, String prefix) {
+        this(pattern, prefix, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public RecordFormatter(String pattern, String prefix, Locale locale) {
+        this.pattern = pattern;
+        this.prefix = prefix;
+        this.locale = locale;
+        this.parts = compile(pattern);
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.fastDigits = symbols.getZeroDigit() == '0' && symbols.getDecimalSeparator() == '.';
+    }
+
+    public static RecordFormatter fromConfig() {
+        return new RecordFormatter(OperatorConfig.recordFormat(), CalculatorConfig.resultPrefix());
+    }
+
+    public String format(double value, String expression) {
+        if (parts == null) {
+            return String.format(locale, pattern, prefix, value, expression);
+        }
+        StringBuilder out = new StringBuilder(prefix.length() + expression.length() + 32);
+        formatTo(out, value, expression);
+        return out.toString();
+    }
+
+    /**
+     * Appends the record to a caller-owned buffer, e.g. one reused across lines.
+     */
+    public void formatTo(StringBuilder out, double value, String expression) {
+        if (parts == null) {
+            out.append(String.format(locale, pattern, prefix, value, expression));
+            return;
+        }
+        for (Part part : parts) {
+            switch (part) {
+                case Literal literal -> out.append(literal.text());
+                case Text text -> out.append(text.argument() == PREFIX ? prefix
+                        : text.argument() == EXPRESSION ? expression
+                        : Double.toString(value));
+                case Fixed fixed -> appendFixed(out, value, fixed.precision());
+            }
+        }
+    }
+
+    // ===== Pattern =====
+
+    private sealed interface Part permits Literal, Text, Fixed {
+    }
+
+    private record Literal(String text) implements Part {
+    }
+
+    /** {@code %s} of the argument at {@code argument}. */
+    private record Text(int argument) implements Part {
+    }
+
+    /** {@code %.Nf} of the value. */
+    private record Fixed(int precision) implements Part {
+    }
+
+    /**
+     * Parts for the supported subset, or {@code null} when the pattern needs the full formatter.
+     */
+    private static List<Part> compile(String pattern) {
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        Matcher matcher = SPECIFIER.matcher(pattern);
+        int argument = 0;
+        int from = 0;
+
+        while (matcher.find(from)) {
+            if (pattern.indexOf('%', from) != matcher.start()) {
+                return null;
+            }
+            literal.append(pattern, from, matcher.start());
+            from = matcher.end();
+
+            boolean plain = matcher.group(1) == null && matcher.group(2).isEmpty()
+                    && matcher.group(3) == null && matcher.group(5) == null;
+            String precision = matcher.group(4);
+            char conversion = matcher.group(6).charAt(0);
+
+            if (!plain) {
+                return null;
+            } else if (conversion == '%' && precision == null) {
+                literal.append('%');
+            } else if (conversion == 'n' && precision == null) {
+                literal.append(System.lineSeparator());
+            } else if (conversion == 's' && precision == null && argument <= EXPRESSION) {
+                flush(literal, parts);
+                parts.add(new Text(argument++));
+            } else if (conversion == 'f' && argument == VALUE) {
+                flush(literal, parts);
+                parts.add(new Fixed(precision == null ? 6 : Integer.parseInt(precision.substring(1))));
+                argument++;
+            } else {
+                return null;
+            }
+        }
+        if (pattern.indexOf('%', from) >= 0) {
+            return null;
+        }
+        literal.append(pattern, from, pattern.length());
+        flush(literal, parts);
+        return List.copyOf(parts);
+    }
+
+    private static void flush(StringBuilder literal, List<Part> parts) {
+        if (!literal.isEmpty()) {
+            parts.add(new Literal(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    // ===== Fixed-Point Digits =====
+
+    private void appendFixed(StringBuilder out, double value, int precision) {
+        if (!fastDigits || precision > MAX_FAST_PRECISION || !appendFastFixed(out, value, precision)) {
+            out.append(String.format(locale, "%." + precision + "f", value));
+        }
+    }
+
+    /**
+     * Writes {@code value} rounded half-up to {@code precision} digits; returns
+     * {@code false} without writing when the rounding direction is not certain.
+     */
+    private static boolean appendFastFixed(StringBuilder out, double value, int precision) {
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+            return true;
+        }
+        boolean negative = Double.compare(value, 0.0) < 0;
+        double magnitude = Math.abs(value);
+        if (Double.isInfinite(magnitude)) {
+            out.append(negative ? "-Infinity" : "Infinity");
+            return true;
+        }
+
+        long scale = POWERS_OF_TEN[precision];
+        double scaled = magnitude * scale;
+        if (scaled >= MAX_FAST_SCALED) {
+            return false;
+        }
+        long units = (long) scaled;
+        double fraction = scaled - units;
+        if (Math.abs(fraction - 0.5) <= TIE_GUARD_ULPS * Math.ulp(scaled)) {
+            return false;
+        }
+        if (fraction > 0.5) {
+            units++;
+        }
+
+        if (negative) {
+            out.append('-');
+        }
+        out.append(units / scale);
+        if (precision > 0) {
+            out.append('.');
+            long digits = units % scale;
+            for (long pad = scale / 10; pad > digits && pad > 1; pad /= 10) {
+                out.append('0');
+            }
+            out.append(digits);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.server;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * BufferPool — recycles fixed-size direct buffers. Socket I/O on a direct buffer avoids
+ * the JDK's hidden copy into a temporary one, and pooling avoids paying for
+ * direct allocation (and its deferred, GC-driven release) per connection.
+ */
+final class BufferPool {
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+
+    BufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Returns a buffer to the pool; beyond {@code maxPooled} it is left to the GC.
+     * The size check is approximate under contention, which only affects how many stay pooled.
+     */
+    void release(ByteBuffer buffer) {
+        if (free.size() < maxPooled) {
+            free.offer(buffer);
+        }
+    }
+}
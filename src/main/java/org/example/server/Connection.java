@@ -0,0 +1,311 @@
+package org.example.server;
+
+import org.example.io.output.ErrorMessages;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Connection — one pipelined line-protocol client. Every read that completes lines
+ * becomes one batch; batches are chained, so they run on the worker pool one after
+ * another and responses leave in request order while many requests are in flight.
+ * Reading pauses while too much output or work is queued, so a client that does not
+ * read its responses cannot exhaust memory. A last line without a line break is
+ * answered when the client shuts down its output.
+ *
+ * <p>Socket state is only touched on the owning {@link EventLoop} thread; workers
+ * append encoded responses to a concurrent queue and ask the loop to flush.
+ */
+final class Connection {
+
+    private static final long MAX_QUEUED_BYTES = 1 << 20;
+    private static final int MAX_PENDING_BATCHES = 64;
+    private static final byte[] LINE_TOO_LONG = "Line too long\n".getBytes(StandardCharsets.UTF_8);
+
+    private final SocketChannel channel;
+    private final EventLoop loop;
+    private final BufferPool pool;
+    private final Executor workers;
+    private final Function<List<String>, String> responder;
+
+    private SelectionKey key;
+    private ByteBuffer readBuffer;
+    private ByteBuffer writeBuffer;
+
+    private final Queue<byte[]> outgoing = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicInteger pendingBatches = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+    private byte[] head;
+    private int headOffset;
+    private boolean inputClosed;
+    private boolean closed;
+
+    Connection(SocketChannel channel, EventLoop loop, BufferPool pool, Executor workers,
+               Function<List<String>, String> responder) {
+        this.channel = channel;
+        this.loop = loop;
+        this.pool = pool;
+        this.workers = workers;
+        this.responder = responder;
+    }
+
+    /**
+     * Registers with the loop's selector; must run on the loop thread.
+     */
+    void register() {
+        try {
+            channel.configureBlocking(false);
+            readBuffer = pool.acquire();
+            writeBuffer = pool.acquire().flip();
+            key = channel.register(loop.selector(), SelectionKey.OP_READ, this);
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    void onReady(SelectionKey ready) {
+        try {
+            if (ready.isValid() && ready.isReadable()) {
+                onReadable();
+            }
+            if (ready.isValid() && ready.isWritable()) {
+                flush();
+            }
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // nothing left to release
+        }
+        if (readBuffer != null) {
+            pool.release(readBuffer);
+            pool.release(writeBuffer);
+            readBuffer = null;
+            writeBuffer = null;
+        }
+    }
+
+    // ===== Reading =====
+
+    private void onReadable() throws IOException {
+        int read = channel.read(readBuffer);
+        if (read < 0) {
+            inputClosed = true;
+            String last = unterminatedLine();
+            if (last != null) {
+                chain(() -> respond(List.of(last)));
+            }
+            updateInterest();
+            closeIfDone();
+            return;
+        }
+
+        List<String> lines = extractLines();
+        if (lines == null) {
+            inputClosed = true;
+            chain(() -> LINE_TOO_LONG);
+        } else if (!lines.isEmpty()) {
+            chain(() -> respond(lines));
+        }
+        updateInterest();
+    }
+
+    /**
+     * Complete lines from the read buffer, leaving a partial line in it; {@code null}
+     * when a single line fills the whole buffer.
+     */
+    private List<String> extractLines() {
+        readBuffer.flip();
+        List<String> lines = new ArrayList<>();
+        int start = readBuffer.position();
+        int limit = readBuffer.limit();
+
+        for (int i = start; i < limit; i++) {
+            if (readBuffer.get(i) == '\n') {
+                int end = i > start && readBuffer.get(i - 1) == '\r' ? i - 1 : i;
+                byte[] line = new byte[end - start];
+                readBuffer.get(start, line);
+                lines.add(new String(line, StandardCharsets.UTF_8));
+                start = i + 1;
+            }
+        }
+
+        if (start == 0 && limit == readBuffer.capacity()) {
+            return null;
+        }
+        readBuffer.position(start);
+        readBuffer.compact();
+        return lines;
+    }
+
+    /**
+     * The partial line left in the read buffer at end of input, answered like any other
+     * line; {@code null} when the input ended with a line break.
+     */
+    private String unterminatedLine() {
+        readBuffer.flip();
+        int end = readBuffer.limit();
+        if (end > 0 && readBuffer.get(end - 1) == '\r') {
+            end--;
+        }
+        byte[] line = new byte[end];
+        readBuffer.get(0, line);
+        boolean empty = !readBuffer.hasRemaining();
+        readBuffer.clear();
+        return empty ? null : new String(line, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs {@code work} on the worker pool after every earlier batch of this connection,
+     * then queues its output. Each stage runs whether or not the previous one failed,
+     * so one broken batch never stalls the batches behind it.
+     */
+    private void chain(Supplier<byte[]> work) {
+        pendingBatches.incrementAndGet();
+        tail = tail.handleAsync((ignored, failure) -> {
+            try {
+                enqueue(work.get());
+            } finally {
+                pendingBatches.decrementAndGet();
+                scheduleFlush();
+            }
+            return null;
+        }, workers);
+    }
+
+    /**
+     * A batch that fails as a whole, even with an {@link Error}, still answers every
+     * line, so later responses stay matched to their requests.
+     */
+    private byte[] respond(List<String> lines) {
+        String response;
+        try {
+            response = responder.apply(lines);
+        } catch (Throwable e) {
+            response = (ErrorMessages.of(e) + "\n").repeat(lines.size());
+        }
+        return response.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ===== Writing =====
+
+    private void enqueue(byte[] bytes) {
+        queuedBytes.addAndGet(bytes.length);
+        outgoing.add(bytes);
+    }
+
+    /**
+     * Called from workers; at most one flush task is queued on the loop at a time.
+     */
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            loop.execute(() -> {
+                flushScheduled.set(false);
+                try {
+                    flush();
+                } catch (IOException e) {
+                    close();
+                }
+            });
+        }
+    }
+
+    private void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        while (true) {
+            if (!writeBuffer.hasRemaining() && !fillWriteBuffer()) {
+                break;
+            }
+            channel.write(writeBuffer);
+            if (writeBuffer.hasRemaining()) {
+                break;
+            }
+        }
+        updateInterest();
+        closeIfDone();
+    }
+
+    /**
+     * Copies queued responses into the direct write buffer; {@code false} when nothing is queued.
+     */
+    private boolean fillWriteBuffer() {
+        writeBuffer.clear();
+        while (writeBuffer.hasRemaining()) {
+            if (head == null) {
+                head = outgoing.poll();
+                headOffset = 0;
+                if (head == null) {
+                    break;
+                }
+            }
+            int count = Math.min(writeBuffer.remaining(), head.length - headOffset);
+            writeBuffer.put(head, headOffset, count);
+            headOffset += count;
+            if (headOffset == head.length) {
+                queuedBytes.addAndGet(-head.length);
+                head = null;
+            }
+        }
+        writeBuffer.flip();
+        return writeBuffer.hasRemaining();
+    }
+
+    // ===== Private Helpers =====
+
+    private void updateInterest() {
+        if (closed || !key.isValid()) {
+            return;
+        }
+        boolean backlogged = queuedBytes.get() > MAX_QUEUED_BYTES || pendingBatches.get() > MAX_PENDING_BATCHES;
+        int ops = 0;
+        if (!inputClosed && !backlogged) {
+            ops |= SelectionKey.OP_READ;
+        }
+        if (writeBuffer.hasRemaining()) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        try {
+            key.interestOps(ops);
+        } catch (IllegalStateException e) {
+            close();
+        }
+    }
+
+    private void closeIfDone() {
+        if (inputClosed && pendingBatches.get() == 0 && head == null
+                && outgoing.isEmpty() && !writeBuffer.hasRemaining()) {
+            close();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package org.example.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.config.CalculatorConfig;
+import org.example.core.evaluation.CalculatorEngine;
+import org.example.core.evaluation.CompiledExpression;
+import org.example.core.metrics.Metrics;
+import org.example.core.metrics.Stage;
+import org.example.core.parser.ParseResult;
+import org.example.io.output.ErrorMessages;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HttpEvaluationServer — exposes the engine over HTTP using the JDK's built-in
+ * {@link HttpServer}, with one virtual thread per exchange so blocking reads and
+ * writes never pin a platform thread.
+ *
+ * <ul>
+ *   <li>{@code POST /evaluate} — body is one expression; replies {@code 200} with the
+ *       value ({@link Double#toString(double)}), {@code 400} for rejected input and
+ *       {@code 422} when evaluation fails.</li>
+ *   <li>{@code POST /evaluate/batch} — newline-delimited expressions, streamed: every
+ *       input line produces one output line (value, error text or blank) as soon as it
+ *       is read, so bodies of any size run in constant memory. Lines are capped like
+ *       single expressions.</li>
+ *   <li>{@code GET /metrics} — the in-process metrics dump.</li>
+ * </ul>
+ * Expressions go through {@link CalculatorEngine#tryCompile}, i.e. the same single-scan
+ * validation and compiled-expression cache as the REPL. Small keep-alive responses need
+ * {@code sun.net.httpserver.nodelay=true} to avoid delayed-ACK stalls; the {@code --serve}
+ * entry point sets it, embedders set it themselves.
+ */
+public final class HttpEvaluationServer implements AutoCloseable {
+
+    private static final String TEXT_PLAIN = "text/plain; charset=utf-8";
+    private static final int MAX_EXPRESSION_BYTES = 64 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 1 << 14;
+    private static final double[] NO_BINDINGS = new double[0];
+    private static final String TOO_LONG = "Expression exceeds " + MAX_EXPRESSION_BYTES + " bytes";
+
+    private final CalculatorEngine engine;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public HttpEvaluationServer(CalculatorEngine engine, InetSocketAddress address, int backlog) throws IOException {
+        this.engine = engine;
+        this.server = HttpServer.create(address, backlog);
+        server.setExecutor(executor);
+        server.createContext("/evaluate", this::handleEvaluate);
+        server.createContext("/evaluate/batch", this::handleBatch);
+        server.createContext("/metrics", this::handleMetrics);
+    }
+
+    public static HttpEvaluationServer fromConfig(CalculatorEngine engine) throws IOException {
+        InetSocketAddress address = new InetSocketAddress(CalculatorConfig.serverHost(), CalculatorConfig.serverPort());
+        return new HttpEvaluationServer(engine, address, CalculatorConfig.serverBacklog());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Bound address; reflects the actual port when configured with port {@code 0}.
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    // ===== Handlers =====
+
+    private void handleEvaluate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exactPath(exchange, "/evaluate") || !requireMethod(exchange, "POST")) {
+                return;
+            }
+            long start = Metrics.start();
+
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readNBytes(MAX_EXPRESSION_BYTES + 1);
+            }
+            if (body.length > MAX_EXPRESSION_BYTES) {
+                respond(exchange, 413, TOO_LONG);
+                return;
+            }
+
+            String expression = new String(body, StandardCharsets.UTF_8).trim();
+            switch (engine.tryCompile(expression)) {
+                case ParseResult.Success<CompiledExpression> success -> {
+                    try {
+                        respond(exchange, 200, Double.toString(engine.evaluate(success.value())));
+                    } catch (RuntimeException e) {
+                        respond(exchange, 422, ErrorMessages.of(e));
+                    }
+                }
+                case ParseResult.Failure<CompiledExpression> failure ->
+                        respond(exchange, 400, "Invalid expression: " + failure.diagnostic().message());
+            }
+            Metrics.record(Stage.REQUEST, start);
+        }
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exactPath(exchange, "/evaluate/batch") || !requireMethod(exchange, "POST")) {
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", TEXT_PLAIN);
+            exchange.sendResponseHeaders(200, 0);
+
+            try (Reader body = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8);
+                 Writer out = new BufferedWriter(
+                         new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), STREAM_BUFFER_SIZE)) {
+                streamBatch(new LineReader(body), out);
+            }
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (exactPath(exchange, "/metrics") && requireMethod(exchange, "GET")) {
+                respond(exchange, 200, Metrics.dump());
+            }
+        }
+    }
+
+    // ===== Private Helpers =====
+
+    /**
+     * One output line per input line; the writer is flushed whenever the reader would
+     * block, so a client streaming its request sees results while still sending.
+     * Lines over {@link #MAX_EXPRESSION_BYTES} are answered with an error line and the
+     * rest of them is skipped unread into memory.
+     */
+    private void streamBatch(LineReader in, Writer out) throws IOException {
+        double[] stack = new double[16];
+        StringBuilder line = new StringBuilder();
+        long bytes;
+
+        while ((bytes = in.next(line)) >= 0) {
+            long start = Metrics.start();
+            String expression = line.toString().trim();
+            if (bytes > MAX_EXPRESSION_BYTES) {
+                out.write(TOO_LONG);
+            } else if (!expression.isEmpty()) {
+                switch (engine.tryCompile(expression)) {
+                    case ParseResult.Success<CompiledExpression> success -> {
+                        CompiledExpression compiled = success.value();
+                        int depth = compiled.stackSize();
+                        if (stack.length < depth) {
+                            stack = new double[depth];
+                        }
+                        try {
+                            out.write(Double.toString(compiled.evaluate(NO_BINDINGS, stack)));
+                        } catch (RuntimeException e) {
+                            out.write(ErrorMessages.of(e));
+                        }
+                    }
+                    case ParseResult.Failure<CompiledExpression> failure ->
+                            out.write("Invalid expression: " + failure.diagnostic().message());
+                }
+            }
+            out.write('\n');
+            Metrics.record(Stage.REQUEST, start);
+
+            if (!in.ready()) {
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Contexts match by prefix; anything below a context that is not itself a route is a 404.
+     */
+    private static boolean exactPath(HttpExchange exchange, String path) throws IOException {
+        if (exchange.getRequestURI().getPath().equals(path)) {
+            return true;
+        }
+        respond(exchange, 404, "Not found");
+        return false;
+    }
+
+    private static boolean requireMethod(HttpExchange exchange, String method) throws IOException {
+        if (method.equals(exchange.getRequestMethod())) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        respond(exchange, 405, "Method not allowed");
+        return false;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_PLAIN);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Splits a body into lines on {@code \n}, {@code \r} or {@code \r\n}, like
+     * {@link java.io.BufferedReader#readLine()}, but keeps at most
+     * {@link #MAX_EXPRESSION_BYTES} of a line and only measures the rest.
+     */
+    private static final class LineReader {
+
+        private final Reader in;
+        private final char[] buffer = new char[STREAM_BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+
+        LineReader(Reader in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the next line, without its terminator, into {@code line}.
+         *
+         * @return UTF-8 length of the whole line, or {@code -1} at end of input
+         */
+        long next(StringBuilder line) throws IOException {
+            line.setLength(0);
+            long bytes = 0;
+            boolean started = false;
+
+            while (position < limit || fill()) {
+                char c = buffer[position++];
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                if (c == '\n' || c == '\r') {
+                    skipLineFeed = c == '\r';
+                    return bytes;
+                }
+                started = true;
+                // A surrogate pair encodes to four bytes, two per half.
+                bytes += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+                if (bytes <= MAX_EXPRESSION_BYTES) {
+                    line.append(c);
+                }
+            }
+            return started ? bytes : -1;
+        }
+
+        /**
+         * Whether {@link #next} can make progress without blocking.
+         */
+        boolean ready() throws IOException {
+            return position < limit || in.ready();
+        }
+
+        private boolean fill() throws IOException {
+            int read = in.read(buffer, 0, buffer.length);
+            position = 0;
+            limit = Math.max(read, 0);
+            return read > 0;
+        }
+    }
+}
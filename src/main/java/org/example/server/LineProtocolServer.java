@@ -0,0 +1,156 @@
+package org.example.server;
+
+import org.example.config.CalculatorConfig;
+import org.example.core.evaluation.CalculatorEngine;
+import org.example.core.evaluation.CompiledExpression;
+import org.example.core.metrics.Metrics;
+import org.example.core.metrics.Stage;
+import org.example.core.parser.ParseResult;
+import org.example.io.output.ErrorMessages;
+import org.example.io.output.RecordFormatter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * LineProtocolServer — raw TCP mode: clients send newline-terminated expressions and
+ * receive one newline-terminated result per expression, in order. Clients may pipeline
+ * any number of requests without waiting for responses.
+ *
+ * <p>A blocking acceptor thread hands connections round-robin to a few {@link EventLoop}
+ * selector threads, which do all socket I/O through pooled direct buffers. Evaluation
+ * runs on a separate worker pool, so a slow expression never stalls a selector.
+ * Results use the REPL record format ({@link RecordFormatter}); failures use the REPL
+ * error text and blank lines are answered with blank lines.
+ */
+public final class LineProtocolServer implements AutoCloseable {
+
+    private static final int POOLED_BUFFERS_PER_LOOP = 1024;
+    private static final double[] NO_BINDINGS = new double[0];
+
+    private final CalculatorEngine engine;
+    private final RecordFormatter formatter = RecordFormatter.fromConfig();
+    private final ServerSocketChannel acceptor;
+    private final EventLoop[] loops;
+    private final ForkJoinPool workers;
+    private final BufferPool buffers;
+    private final List<Thread> threads = new ArrayList<>();
+
+    /**
+     * @param loopCount selector threads
+     * @param workerCount evaluation threads; {@code 0} uses all processors
+     * @param bufferSize size of each pooled read and write buffer, i.e. the longest accepted line
+     */
+    public LineProtocolServer(CalculatorEngine engine, InetSocketAddress address, int loopCount,
+                              int workerCount, int bufferSize) throws IOException {
+        if (loopCount <= 0) {
+            throw new IllegalArgumentException("Event loop count must be positive: " + loopCount);
+        }
+        this.engine = engine;
+        this.acceptor = ServerSocketChannel.open().bind(address, CalculatorConfig.serverBacklog());
+        this.loops = new EventLoop[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            loops[i] = new EventLoop();
+        }
+        this.workers = new ForkJoinPool(workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors());
+        this.buffers = new BufferPool(bufferSize, POOLED_BUFFERS_PER_LOOP * loopCount);
+    }
+
+    public static LineProtocolServer fromConfig(CalculatorEngine engine) throws IOException {
+        InetSocketAddress address = new InetSocketAddress(CalculatorConfig.tcpHost(), CalculatorConfig.tcpPort());
+        return new LineProtocolServer(engine, address, CalculatorConfig.tcpEventLoops(),
+                CalculatorConfig.tcpWorkers(), CalculatorConfig.tcpBufferSize());
+    }
+
+    public void start() {
+        for (int i = 0; i < loops.length; i++) {
+            threads.add(Thread.ofPlatform().name("calculator-tcp-loop-" + i).start(loops[i]));
+        }
+        threads.add(Thread.ofPlatform().name("calculator-tcp-accept").start(this::acceptLoop));
+    }
+
+    /**
+     * Bound address; reflects the actual port when configured with port {@code 0}.
+     */
+    public InetSocketAddress address() throws IOException {
+        return (InetSocketAddress) acceptor.getLocalAddress();
+    }
+
+    @Override
+    public void close() throws IOException {
+        acceptor.close();
+        for (EventLoop loop : loops) {
+            loop.shutdown();
+        }
+        workers.close();
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // ===== Private Helpers =====
+
+    private void acceptLoop() {
+        int next = 0;
+        while (acceptor.isOpen()) {
+            try {
+                SocketChannel channel = acceptor.accept();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                EventLoop loop = loops[next];
+                next = (next + 1) % loops.length;
+                Connection connection = new Connection(channel, loop, buffers, workers, this::respond);
+                loop.execute(connection::register);
+            } catch (AsynchronousCloseException e) {
+                return;
+            } catch (IOException e) {
+                // a failed accept only affects that client
+            }
+        }
+    }
+
+    /**
+     * Evaluates one batch of pipelined lines into their response text.
+     */
+    private String respond(List<String> lines) {
+        StringBuilder out = new StringBuilder(lines.size() * 32);
+        double[] stack = new double[16];
+
+        for (String line : lines) {
+            long start = Metrics.start();
+            String expression = line.trim();
+            if (!expression.isEmpty()) {
+                switch (engine.tryCompile(expression)) {
+                    case ParseResult.Success<CompiledExpression> success -> {
+                        CompiledExpression compiled = success.value();
+                        int depth = compiled.stackSize();
+                        if (stack.length < depth) {
+                            stack = new double[depth];
+                        }
+                        try {
+                            formatter.formatTo(out, compiled.evaluate(NO_BINDINGS, stack), compiled.getSource());
+                        } catch (RuntimeException e) {
+                            out.append(ErrorMessages.of(e));
+                        }
+                    }
+                    case ParseResult.Failure<CompiledExpression> failure ->
+                            out.append("Invalid expression: ").append(failure.diagnostic().message());
+                }
+            }
+            out.append('\n');
+            Metrics.record(Stage.REQUEST, start);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.core.ast;
+
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.lexer.TableLexer;
+import org.example.core.operators.base.UnaryOperator;
+import org.example.core.operators.factory.OperatorRegistry;
+import org.example.core.operators.impl.SinOperator;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CommonSubexpressionsTest {
+
+    private final RpnEvaluationAlgorithm interpreter = new RpnEvaluationAlgorithm();
+    private final OperatorRegistry operators = OperatorRegistry.withDefaults();
+    private final Tick tick = new Tick();
+    private ExpressionOptimizer optimizer;
+
+    @BeforeEach
+    void registerOperators() {
+        operators.register("tick", tick);
+        // Same behaviour as sin, but a subclass is not a trusted built-in.
+        operators.register("mysin", new SinOperator() { });
+        optimizer = new ExpressionOptimizer(OptimizationMode.STRICT, operators);
+    }
+
+    @Test
+    void sinAndCosShareTheirArgumentThroughOneTemporary() {
+        RpnProgram program = optimize("sin(x*2)+cos(x*2)");
+
+        assertEquals(List.of("x", "2.0", "*", "=t0", "sin", "t0", "cos", "+"), texts(program));
+        assertEquals(1, program.temporaryCount());
+        assertEquals(1, program.savedApplications());
+        assertEquals(Math.sin(3.0) + Math.cos(3.0), evaluate(program, 1.5));
+    }
+
+    @Test
+    void countsSavedApplications() {
+        assertEquals(0, optimize("x+y").savedApplications());
+        assertEquals(1, optimize("sin(x)+sin(x)").savedApplications());
+        assertEquals(2, optimize("(x*y+1)*(x*y+1)").savedApplications());
+        assertEquals(2, optimize("x*y+sin(x*y)+cos(x*y)").savedApplications());
+        // The inner repeat is counted once: the outer one already covers it.
+        assertEquals(3, optimize("sin(x*y+1)+sin(x*y+1)").savedApplications());
+    }
+
+    @Test
+    void unsharedSubtreesAreLoweredAsParsed() {
+        RpnProgram program = optimize("x*y+y*x");
+
+        assertEquals(0, program.temporaryCount());
+        assertEquals(List.of("x", "y", "*", "y", "x", "*", "+"), texts(program));
+    }
+
+    @Test
+    void registeredOperatorsAreNeverMerged() {
+        RpnProgram program = optimize("tick(x)+tick(x)");
+
+        assertEquals(0, program.temporaryCount());
+        assertEquals(0, program.savedApplications());
+        evaluate(program, 1.0);
+        assertEquals(2, tick.calls);
+    }
+
+    @Test
+    void subclassOfBuiltInIsNotTrusted() {
+        RpnProgram program = optimize("mysin(x)+mysin(x)");
+
+        assertEquals(0, program.temporaryCount());
+        assertEquals(2, program.tokens().stream().filter(t -> t.text().equals("mysin")).count());
+    }
+
+    @Test
+    void pureArgumentOfRegisteredOperatorIsStillShared() {
+        RpnProgram program = optimize("tick(x*2)+tick(x*2)");
+
+        assertEquals(1, program.savedApplications());
+        assertEquals(1, program.tokens().stream().filter(t -> t.is(TokenKind.STORE)).count());
+        assertEquals(2, program.tokens().stream().filter(t -> t.operator() == tick).count());
+        assertEquals(12.0, evaluate(program, 1.5));
+    }
+
+    // ===== Private Helpers =====
+
+    private RpnProgram optimize(String expr) {
+        return optimizer.optimize(RpnProgram.of(
+                new DefaultRpnParser(operators).toRpnTokens(new TableLexer(operators).scan(expr))));
+    }
+
+    /** Binds every variable to {@code value}. */
+    private double evaluate(RpnProgram program, double value) {
+        double[] bindings = new double[program.variableCount()];
+        Arrays.fill(bindings, value);
+        PreparedProgram prepared = interpreter.prepare(program);
+        return prepared.evaluate(bindings, new double[prepared.stackSize(program.maxStackDepth())]);
+    }
+
+    private static List<String> texts(RpnProgram program) {
+        return program.tokens().stream().map(Token::text).toList();
+    }
+
+    /** Impure: counts its calls, so merging two calls would be observable. */
+    private static final class Tick implements UnaryOperator {
+
+        private int calls;
+
+        @Override
+        public String getSymbol() { return "tick"; }
+
+        @Override
+        public int getPrecedence() { return 3; }
+
+        @Override
+        public boolean isLeftAssociative() { return false; }
+
+        @Override
+        public int getOperandCount() { return 1; }
+
+        @Override
+        public boolean isFunction() { return true; }
+
+        @Override
+        public double apply(double operand) {
+            calls++;
+            return operand * 2;
+        }
+    }
+}
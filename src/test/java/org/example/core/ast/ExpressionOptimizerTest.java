@@ -0,0 +1,114 @@
+package org.example.core.ast;
+
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.lexer.TableLexer;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+import org.example.core.token.TokenKind;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * STRICT rewrites must give the bits of the unoptimized program for every input,
+ * infinities and signed zeros included; NaN must stay NaN, whatever its sign or payload.
+ */
+class ExpressionOptimizerTest {
+
+    private static final double[] SPECIAL_VALUES = {
+            0.0, -0.0, 1.0, -1.0, 2.5, -3.75, Double.MIN_VALUE, Double.MAX_VALUE,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN
+    };
+
+    private static final List<String> EXPRESSIONS = List.of(
+            "x*0", "0*x", "x*(-0)", "x*0.0", "x-x", "x+x-x", "x/x",
+            "x+0", "0+x", "x+(-0)", "-0+x", "x-0", "x-(-0)", "0-x",
+            "x*1", "1*x", "x/1", "+x", "--x", "---x", "-(-0.0)",
+            "x-(-y)", "x+(-y)", "-x+(-y)", "(x+0)*(y-0)", "sin(x*0)+cos(x-x)");
+
+    private final ExpressionOptimizer strict = new ExpressionOptimizer(OptimizationMode.STRICT);
+    private final ExpressionOptimizer relaxed = new ExpressionOptimizer(OptimizationMode.RELAXED);
+    private final RpnEvaluationAlgorithm interpreter = new RpnEvaluationAlgorithm();
+
+    @Test
+    void strictRewritesPreserveEveryBit() {
+        for (String expr : EXPRESSIONS) {
+            RpnProgram original = program(expr);
+            RpnProgram optimized = strict.optimize(original);
+            for (double x : SPECIAL_VALUES) {
+                for (double y : SPECIAL_VALUES) {
+                    double[] bindings = bindings(original, x, y);
+                    assertEquals(Double.doubleToLongBits(evaluate(original, bindings)),
+                            Double.doubleToLongBits(evaluate(optimized, bindings)),
+                            () -> expr + " at x=" + x + ", y=" + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void strictKeepsUnsafeIdentities() {
+        // x*0 is NaN or -0 for some x, x-x is NaN for infinities, x+0 turns -0 into +0.
+        for (String expr : List.of("x*0", "0*x", "x-x", "x+0", "x-(-0)")) {
+            assertTrue(strict.optimize(program(expr)).tokens().stream().anyMatch(t -> t.is(TokenKind.VARIABLE)),
+                    expr);
+        }
+    }
+
+    @Test
+    void strictFoldsSignedZeroExactly() {
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(constant(strict, "-0.0")));
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(constant(strict, "-(-0.0)")));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(constant(strict, "0*(-1)")));
+        assertTrue(Double.isNaN(constant(strict, "0/0")));
+    }
+
+    @Test
+    void relaxedDropsZeroTerms() {
+        assertEquals(List.of("x"), texts(relaxed.optimize(program("x+0"))));
+        assertEquals(0.0, constant(relaxed, "x*0"));
+    }
+
+    @Test
+    void optimizedProgramKeepsVariableSlots() {
+        RpnProgram original = program("x*1+y*0");
+        RpnProgram optimized = relaxed.optimize(original);
+
+        assertEquals(original.variables(), optimized.variables());
+        assertEquals(2.0, evaluate(optimized, bindings(original, 2.0, Double.NaN)));
+    }
+
+    // ===== Private Helpers =====
+
+    private static RpnProgram program(String expr) {
+        return RpnProgram.of(new DefaultRpnParser().toRpnTokens(new TableLexer().scan(expr)));
+    }
+
+    private static double[] bindings(RpnProgram program, double x, double y) {
+        double[] bindings = new double[program.variableCount()];
+        for (String variable : program.variables()) {
+            bindings[program.slotOf(variable)] = variable.equals("x") ? x : y;
+        }
+        return bindings;
+    }
+
+    private double evaluate(RpnProgram program, double[] bindings) {
+        PreparedProgram prepared = interpreter.prepare(program);
+        return prepared.evaluate(bindings, new double[prepared.stackSize(program.maxStackDepth())]);
+    }
+
+    private double constant(ExpressionOptimizer optimizer, String expr) {
+        RpnProgram optimized = optimizer.optimize(program(expr));
+        assertEquals(1, optimized.size(), expr);
+        return evaluate(optimized, new double[optimized.variableCount()]);
+    }
+
+    private static List<String> texts(RpnProgram program) {
+        return program.tokens().stream().map(Token::text).toList();
+    }
+}
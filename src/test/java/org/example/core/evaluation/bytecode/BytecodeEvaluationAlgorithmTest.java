@@ -0,0 +1,57 @@
+package org.example.core.evaluation.bytecode;
+
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.lexer.TableLexer;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnProgram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BytecodeEvaluationAlgorithmTest {
+
+    /** Deep enough that {@code max_stack} no longer fits in a u2, while the code still does. */
+    private static final int TERMS = 32_767;
+
+    private final BytecodeEvaluationAlgorithm algorithm = new BytecodeEvaluationAlgorithm();
+
+    @Test
+    void compilesShallowExpression() {
+        RpnProgram program = program("1 + 2 * (3 - 4) / 8");
+
+        assertTrue(algorithm.compile(program).isPresent());
+        assertEquals(0.75, evaluate(algorithm.prepare(program), program));
+    }
+
+    @Test
+    void deepRightNestingFallsBackToInterpreter() {
+        RpnProgram program = program(rightNested(TERMS));
+
+        assertTrue(2 * program.operandDepth() + 3 > 0xFFFF);
+        assertTrue(new ExpressionClassGenerator().generate(program).isEmpty());
+        assertTrue(algorithm.compile(program).isEmpty());
+        assertEquals(TERMS, evaluate(algorithm.prepare(program), program));
+    }
+
+    // ===== Private Helpers =====
+
+    private static RpnProgram program(String expr) {
+        return RpnProgram.of(new DefaultRpnParser().toRpnTokens(new TableLexer().scan(expr)));
+    }
+
+    private static double evaluate(PreparedProgram prepared, RpnProgram program) {
+        return prepared.evaluate(new double[0], new double[program.maxStackDepth()]);
+    }
+
+    /** {@code 1+(1+(1+...))} with {@code terms} ones. */
+    private static String rightNested(int terms) {
+        StringBuilder expr = new StringBuilder();
+        for (int i = 1; i < terms; i++) {
+            expr.append("1+(");
+        }
+        expr.append('1');
+        expr.append(")".repeat(terms - 1));
+        return expr.toString();
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.core.evaluation.methodhandle;
+
+import org.example.core.ast.ExpressionOptimizer;
+import org.example.core.ast.OptimizationMode;
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.exception.EvaluationException;
+import org.example.core.lexer.TableLexer;
+import org.example.core.operators.impl.AdditionOperator;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnProgram;
+import org.example.core.token.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The handle tree must return the interpreter's bits (NaN compared as NaN) and fail
+ * the way it does; trees too deep to invoke safely fall back to it.
+ */
+class MethodHandleEvaluationAlgorithmTest {
+
+    /** Deep enough to overflow the stack if the handle tree were built. */
+    private static final int TERMS = 20_000;
+
+    private static final long SEED = 11L;
+    private static final int CASES = 500;
+    private static final String[] VARIABLES = {"x", "y"};
+    private static final double[] VALUES = {
+            0.0, -0.0, 1.0, -2.5, 1e300, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN
+    };
+
+    private final MethodHandleEvaluationAlgorithm algorithm = new MethodHandleEvaluationAlgorithm();
+    private final RpnEvaluationAlgorithm interpreter = new RpnEvaluationAlgorithm();
+    private final ExpressionOptimizer optimizer = new ExpressionOptimizer(OptimizationMode.STRICT);
+
+    @Test
+    void matchesInterpreterOnRandomExpressions() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            String expr = randomExpression(random, 1 + random.nextInt(6));
+            RpnProgram program = program(expr);
+            assertSameAsInterpreter(expr, program, random);
+            assertSameAsInterpreter(expr, optimizer.optimize(program), random);
+        }
+    }
+
+    @Test
+    void sharedSubexpressionsMatchInterpreter() {
+        String expr = "sin(x*y)+cos(x*y)-(x*y)/(x*y+1)";
+        RpnProgram program = optimizer.optimize(program(expr));
+
+        assertTrue(program.temporaryCount() > 0);
+        assertTrue(isHandleTree(program));
+        assertSameAsInterpreter(expr, program, new Random(SEED));
+    }
+
+    @Test
+    void malformedProgramFailsLikeInterpreter() {
+        RpnProgram program = RpnProgram.of(List.of(Token.operator("+", new AdditionOperator())));
+
+        assertFalse(isHandleTree(program));
+        EvaluationException expected = assertThrows(EvaluationException.class,
+                () -> interpreter.prepare(program).evaluate(new double[0], new double[2]));
+        EvaluationException actual = assertThrows(EvaluationException.class,
+                () -> algorithm.prepare(program).evaluate(new double[0], new double[2]));
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    void longLeftChainFallsBackToInterpreter() {
+        assertEquals(TERMS, evaluate("1" + "+1".repeat(TERMS - 1)));
+    }
+
+    @Test
+    void deepRightNestingFallsBackToInterpreter() {
+        assertEquals(TERMS, evaluate("1+(".repeat(TERMS - 1) + "1" + ")".repeat(TERMS - 1)));
+    }
+
+    @Test
+    void longUnaryChainFallsBackToInterpreter() {
+        assertEquals(-1.0, evaluate("-".repeat(TERMS + 1) + "1"));
+    }
+
+    @Test
+    void treeAtTheDepthLimitStillCompiles() {
+        int terms = MethodHandleEvaluationAlgorithm.MAX_TREE_DEPTH;
+        String expr = "1" + "+1".repeat(terms - 1);
+
+        assertTrue(isHandleTree(program(expr)));
+        assertFalse(isHandleTree(program(expr + "+1")));
+        assertEquals(terms, evaluate(expr));
+    }
+
+    // ===== Private Helpers =====
+
+    private double evaluate(String expr) {
+        RpnProgram program = program(expr);
+        PreparedProgram prepared = algorithm.prepare(program);
+        return prepared.evaluate(new double[0], new double[program.maxStackDepth()]);
+    }
+
+    private boolean isHandleTree(RpnProgram program) {
+        return algorithm.prepare(program).getClass().getSimpleName().equals("HandleProgram");
+    }
+
+    private void assertSameAsInterpreter(String expr, RpnProgram program, Random random) {
+        PreparedProgram expected = interpreter.prepare(program);
+        PreparedProgram actual = algorithm.prepare(program);
+        double[] bindings = new double[program.variableCount()];
+        double[] stack = new double[expected.stackSize(program.maxStackDepth())];
+
+        for (int round = 0; round < 4; round++) {
+            for (int slot = 0; slot < bindings.length; slot++) {
+                bindings[slot] = VALUES[random.nextInt(VALUES.length)];
+            }
+            String at = expr + " at " + Arrays.toString(bindings);
+            assertEquals(Double.doubleToLongBits(expected.evaluate(bindings, stack)),
+                    Double.doubleToLongBits(actual.evaluate(bindings, stack)), at);
+        }
+    }
+
+    private static String randomExpression(Random random, int depth) {
+        if (depth == 0 || random.nextInt(4) == 0) {
+            return random.nextBoolean()
+                    ? VARIABLES[random.nextInt(VARIABLES.length)]
+                    : Integer.toString(random.nextInt(10));
+        }
+        return switch (random.nextInt(7)) {
+            case 0 -> "-" + randomExpression(random, depth - 1);
+            case 1 -> "sin(" + randomExpression(random, depth - 1) + ")";
+            case 2 -> "cos(" + randomExpression(random, depth - 1) + ")";
+            default -> "(" + randomExpression(random, depth - 1)
+                    + "+-*/".charAt(random.nextInt(4))
+                    + randomExpression(random, depth - 1) + ")";
+        };
+    }
+
+    private static RpnProgram program(String expr) {
+        return RpnProgram.of(new DefaultRpnParser().toRpnTokens(new TableLexer().scan(expr)));
+    }
+}
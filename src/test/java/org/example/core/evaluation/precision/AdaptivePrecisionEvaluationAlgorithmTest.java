@@ -0,0 +1,120 @@
+package org.example.core.evaluation.precision;
+
+import org.example.core.evaluation.PreparedProgram;
+import org.example.core.lexer.TableLexer;
+import org.example.core.metrics.Metrics;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.RpnProgram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class AdaptivePrecisionEvaluationAlgorithmTest {
+
+    private final AdaptivePrecisionEvaluationAlgorithm exact =
+            new AdaptivePrecisionEvaluationAlgorithm(0.0, MathContext.DECIMAL128);
+    private final AdaptivePrecisionEvaluationAlgorithm tolerant =
+            new AdaptivePrecisionEvaluationAlgorithm(1e-3, MathContext.DECIMAL128);
+
+    private boolean wasEnabled;
+    private long evaluations;
+    private long fallbacks;
+
+    @BeforeEach
+    void snapshotCounters() {
+        wasEnabled = Metrics.isEnabled();
+        evaluations = counter("precision.evaluations");
+        fallbacks = counter("precision.fallbacks");
+    }
+
+    @AfterEach
+    void restoreMetrics() {
+        Metrics.setEnabled(wasEnabled);
+    }
+
+    @Test
+    void exactArithmeticStaysOnDoublePath() {
+        assertEquals(14.0, evaluate(exact, "2+3*4"));
+        assertEquals(0.5, evaluate(exact, "1/2"));
+        assertCounted(2, 0);
+    }
+
+    @Test
+    void roundedLiteralsFallBackToDecimal() {
+        assertEquals(0.30000000000000004, 0.1 + 0.2);
+        assertEquals(0.3, evaluate(exact, "0.1+0.2"));
+        assertEquals(0.3, evaluate(exact, "0.1*3"));
+        assertCounted(2, 2);
+    }
+
+    @Test
+    void inexactDivisionFallsBackToDecimal() {
+        assertEquals(1.0 / 3, evaluate(tolerant, "1/3"));
+        assertCounted(1, 1);
+    }
+
+    @Test
+    void errorWithinToleranceKeepsDoubleResult() {
+        assertEquals(0.1 + 0.2, evaluate(tolerant, "0.1+0.2"));
+        assertCounted(1, 0);
+    }
+
+    @Test
+    void nonFiniteResultsAreNotReevaluated() {
+        assertEquals(Double.POSITIVE_INFINITY, evaluate(exact, "1/0"));
+        assertEquals(Double.NEGATIVE_INFINITY, evaluate(exact, "-1/0"));
+        assertCounted(2, 0);
+    }
+
+    @Test
+    void decimalDivisionByZeroKeepsDoubleResult() {
+        // 0.1+0.2-0.3 is exactly zero in decimal but 5.55e-17 in double.
+        assertEquals(1 / (0.1 + 0.2 - 0.3), evaluate(exact, "1/(0.1+0.2-0.3)"));
+        assertCounted(1, 1);
+    }
+
+    @Test
+    void countersAreKeptWithMetricsDisabled() {
+        Metrics.setEnabled(false);
+        evaluate(exact, "0.1+0.2");
+        evaluate(exact, "1+2");
+
+        assertFalse(Metrics.isEnabled());
+        assertCounted(2, 1);
+    }
+
+    @Test
+    void smallerStackStillWorks() {
+        RpnProgram program = program("0.1+0.2*x");
+        PreparedProgram prepared = exact.prepare(program);
+
+        assertEquals(2 * program.maxStackDepth(), prepared.stackSize(program.maxStackDepth()));
+        assertEquals(0.5, prepared.evaluate(new double[]{2.0}, new double[program.maxStackDepth()]));
+    }
+
+    // ===== Private Helpers =====
+
+    private static double evaluate(AdaptivePrecisionEvaluationAlgorithm algorithm, String expr) {
+        RpnProgram program = program(expr);
+        PreparedProgram prepared = algorithm.prepare(program);
+        return prepared.evaluate(new double[0], new double[prepared.stackSize(program.maxStackDepth())]);
+    }
+
+    private static RpnProgram program(String expr) {
+        return RpnProgram.of(new DefaultRpnParser().toRpnTokens(new TableLexer().scan(expr)));
+    }
+
+    private void assertCounted(long expectedEvaluations, long expectedFallbacks) {
+        assertEquals(expectedEvaluations, counter("precision.evaluations") - evaluations, "evaluations");
+        assertEquals(expectedFallbacks, counter("precision.fallbacks") - fallbacks, "fallbacks");
+    }
+
+    private static long counter(String name) {
+        return Metrics.registry().counter(name).sum();
+    }
+}
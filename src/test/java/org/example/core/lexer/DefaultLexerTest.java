@@ -0,0 +1,33 @@
+package org.example.core.lexer;
+
+import org.example.core.token.Tokens;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class DefaultLexerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final Lexer lexer = new DefaultLexer(new LexicalReader());
+
+    @Test
+    void multiplicationAfterClosingParenthesis() {
+        assertEquals(List.of("(", "1", ")", "*", "2"), texts("(1)*2"));
+    }
+
+    @Test
+    void divisionAfterClosingParenthesis() {
+        assertEquals(List.of("(", "1", ")", "/", "2"), texts("(1)/2"));
+    }
+
+    // ===== Private Helpers =====
+
+    private List<String> texts(String expr) {
+        return assertTimeoutPreemptively(TIMEOUT, () -> Tokens.texts(lexer.scan(expr)));
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.core.lexer;
+
+import org.example.core.exception.LexicalException;
+import org.example.core.token.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Differential test: {@link TableLexer} must produce exactly the tokens of the
+ * reference {@link RegexLexer} (kind, text, value bits and operator), and fail with
+ * the same message wherever the reference fails.
+ */
+class TableLexerDifferentialTest {
+
+    private static final long SEED = 7L;
+    private static final int CASES = 50_000;
+
+    /** Digits weighted up; includes stray dots, unary signs, whitespace and illegal characters. */
+    private static final String ALPHABET =
+            "0123456789012345678901234567890123456789....abcxyzsincos +-*/^()\t\n$_,é";
+
+    private static final String[] ATOMS = {
+            "0", "7", "42", "3.14", "0.5", "007", "12.0", "1.", ".5", "1..2",
+            "x", "sin", "cos", "sin2", "(", ")", "+", "-", "*", "/", "^", " ", "$", "é"
+    };
+
+    private final Lexer reference = new RegexLexer();
+    private final Lexer table = new TableLexer();
+
+    @Test
+    void matchesReferenceOnRandomCharacters() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            StringBuilder expr = new StringBuilder();
+            int length = random.nextInt(25);
+            for (int j = 0; j < length; j++) {
+                expr.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            assertSameTokens(expr.toString());
+        }
+    }
+
+    @Test
+    void matchesReferenceOnGeneratedExpressions() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            StringBuilder expr = new StringBuilder();
+            int atoms = 1 + random.nextInt(12);
+            for (int j = 0; j < atoms; j++) {
+                expr.append(ATOMS[random.nextInt(ATOMS.length)]);
+            }
+            assertSameTokens(expr.toString());
+        }
+    }
+
+    @Test
+    void matchesReferenceOnLongLiterals() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            String literal = random.nextInt(1_000_000_000) + "." + random.nextInt(1_000_000)
+                    + (random.nextBoolean() ? "" : Long.toString(Math.abs(random.nextLong())));
+            assertSameTokens(literal);
+        }
+    }
+
+    @Test
+    void matchesReferenceOnUnarySigns() {
+        for (String expr : List.of("-1", "+1", "--1", "-+-1", "2*-3", "2^-1", "-(1)", "(-1)",
+                "1-(-2)", "-sin(1)", "- 1", "+ +x", "3-", "-", "2(-1)", "(1)-2")) {
+            assertSameTokens(expr);
+        }
+    }
+
+    @Test
+    void matchesReferenceOnIllegalCharacters() {
+        for (String expr : List.of("1$2", "é", "1,5", "a_b", "1 # 2", "(1)!", "\u0000", "😀")) {
+            assertSameTokens(expr);
+        }
+    }
+
+    // ===== Private Helpers =====
+
+    private void assertSameTokens(String expr) {
+        assertEquals(describe(reference, expr), describe(table, expr), () -> "Input: |" + expr + "|");
+    }
+
+    private static String describe(Lexer lexer, String expr) {
+        List<Token> tokens;
+        try {
+            tokens = lexer.scan(expr);
+        } catch (LexicalException e) {
+            return "error: " + e.getMessage();
+        }
+        StringBuilder out = new StringBuilder();
+        for (Token token : tokens) {
+            out.append(token.kind()).append(':')
+                    .append(token.text()).append(':')
+                    .append(Double.doubleToRawLongBits(token.value())).append(':')
+                    .append(token.operator() == null ? "-" : token.operator().getClass().getSimpleName())
+                    .append(' ');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.core.parser;
+
+import org.example.core.evaluation.TokenIterator;
+import org.example.core.operators.base.BinaryOperator;
+import org.example.core.operators.factory.OperatorFactory;
+import org.example.core.operators.factory.OperatorRegistry;
+import org.example.core.token.TokenKind;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultRpnParserTest {
+
+    private static final String SYMBOL = "#";
+
+    @Test
+    void textAdapterClassifiesWithTheInjectedRegistry() {
+        OperatorRegistry operators = OperatorRegistry.withDefaults();
+        operators.register(SYMBOL, new Hypot());
+
+        assertTrue(OperatorFactory.registry().get(SYMBOL).isEmpty());
+        assertEquals(List.of("1", "2", "3", SYMBOL, "+"),
+                new DefaultRpnParser(operators).toRpn(List.of("1", "+", "2", SYMBOL, "3")));
+    }
+
+    @Test
+    void tokenIteratorClassifiesWithTheGivenTable() {
+        OperatorRegistry operators = OperatorRegistry.withDefaults();
+        operators.register(SYMBOL, new Hypot());
+
+        TokenIterator registered = TokenIterator.ofText(List.of("3", "4", SYMBOL), operators.snapshot());
+        registered.next();
+        registered.next();
+        assertTrue(registered.next().is(TokenKind.OPERATOR));
+
+        TokenIterator global = TokenIterator.ofText(List.of(SYMBOL), OperatorFactory.registry().snapshot());
+        assertFalse(global.next().isOperator());
+    }
+
+    /** Binds tighter than {@code +}, so placement shows it was recognised as an operator. */
+    private static final class Hypot implements BinaryOperator {
+
+        @Override
+        public String getSymbol() { return SYMBOL; }
+
+        @Override
+        public int getPrecedence() { return 2; }
+
+        @Override
+        public boolean isLeftAssociative() { return true; }
+
+        @Override
+        public int getOperandCount() { return 2; }
+
+        @Override
+        public double apply(double left, double right) {
+            return Math.hypot(left, right);
+        }
+    }
+}
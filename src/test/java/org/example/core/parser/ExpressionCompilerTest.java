@@ -0,0 +1,91 @@
+package org.example.core.parser;
+
+import org.example.core.lexer.TableLexer;
+import org.example.core.metrics.Metrics;
+import org.example.core.metrics.Stage;
+import org.example.core.token.Token;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpressionCompilerTest {
+
+    private final ExpressionCompiler compiler =
+            new ExpressionCompiler(new InfixExpressionParser(new TableLexer()), new DefaultRpnParser());
+
+    private boolean wasEnabled;
+
+    @BeforeEach
+    void enableMetrics() {
+        wasEnabled = Metrics.isEnabled();
+        Metrics.setEnabled(true);
+        Metrics.registry().reset();
+    }
+
+    @AfterEach
+    void restoreMetrics() {
+        Metrics.registry().reset();
+        Metrics.setEnabled(wasEnabled);
+    }
+
+    @Test
+    void sessionRecordsOneParseSamplePerEntry() {
+        ExpressionCompiler.Session session = compiler.session();
+        session.feed("1 +");
+        session.feed("2 *");
+        session.feed("3");
+
+        assertInstanceOf(ParseResult.Success.class, session.finish());
+        assertEquals(1, samples(Stage.PARSE));
+        assertEquals(1, samples(Stage.OPTIMIZE));
+    }
+
+    @Test
+    void sessionTimesLexingAndValidationPerPiece() {
+        ExpressionCompiler.Session session = compiler.session();
+        session.feed("1 +");
+        session.feed("2");
+        session.finish();
+
+        // Two pieces plus the end of input.
+        assertEquals(3, samples(Stage.LEX));
+        assertEquals(3, samples(Stage.VALIDATE));
+    }
+
+    @Test
+    void sessionTimesRejectedPieces() {
+        ExpressionCompiler.Session session = compiler.session();
+        session.feed("1 +");
+        session.feed("2 $");
+
+        assertTrue(session.failed());
+        assertEquals(2, samples(Stage.LEX));
+        assertEquals(0, samples(Stage.PARSE));
+    }
+
+    @Test
+    void sessionMatchesCompile() {
+        ExpressionCompiler.Session session = compiler.session();
+        session.feed("sin(1) +");
+        session.feed("2 ^ 3");
+
+        assertEquals(tokens(compiler.compile("sin(1) + 2 ^ 3")), tokens(session.finish()));
+    }
+
+    // ===== Private Helpers =====
+
+    private static List<Token> tokens(ParseResult<RpnProgram> result) {
+        assertInstanceOf(ParseResult.Success.class, result);
+        return ((ParseResult.Success<RpnProgram>) result).value().tokens();
+    }
+
+    private static long samples(Stage stage) {
+        return Metrics.registry().histogram(stage.metricName()).snapshot().count();
+    }
+}
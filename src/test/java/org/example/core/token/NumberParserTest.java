@@ -0,0 +1,123 @@
+package org.example.core.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Property test: {@link NumberParser} must return the exact bits of
+ * {@link Double#parseDouble(String)}, and throw wherever it throws.
+ */
+class NumberParserTest {
+
+    private static final long SEED = 11L;
+    private static final int CASES = 100_000;
+
+    @Test
+    void matchesParseDoubleOnRandomDigitsAndDots() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            StringBuilder literal = new StringBuilder();
+            int length = 1 + random.nextInt(25);
+            for (int j = 0; j < length; j++) {
+                literal.append("0123456789.".charAt(random.nextInt(11)));
+            }
+            assertSameAsParseDouble(literal.toString());
+        }
+    }
+
+    @Test
+    void matchesParseDoubleOnLongMantissas() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            String digits = Long.toUnsignedString(random.nextLong() >>> random.nextInt(64));
+            int point = random.nextInt(digits.length() + 1);
+            assertSameAsParseDouble(digits.substring(0, point) + "." + digits.substring(point));
+            assertSameAsParseDouble(digits);
+        }
+    }
+
+    @Test
+    void matchesParseDoubleWithLeadingAndTrailingZeros() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            String digits = Long.toString(1 + random.nextInt(Integer.MAX_VALUE));
+            int point = random.nextInt(digits.length() + 1);
+            assertSameAsParseDouble("0".repeat(random.nextInt(4)) + digits.substring(0, point)
+                    + "." + "0".repeat(random.nextInt(30)) + digits.substring(point)
+                    + "0".repeat(random.nextInt(6)));
+        }
+    }
+
+    @Test
+    void matchesParseDoubleWithManyFractionDigits() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            StringBuilder fraction = new StringBuilder();
+            int length = 22 + random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                fraction.append((char) ('0' + random.nextInt(10)));
+            }
+            assertSameAsParseDouble(random.nextInt(1 << 20) + "." + fraction);
+        }
+    }
+
+    @Test
+    void matchesParseDoubleOnShortestRepresentations() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            double value = Math.abs(Double.longBitsToDouble(random.nextLong()));
+            if (Double.isFinite(value)) {
+                assertSameAsParseDouble(new BigDecimal(Double.toString(value)).toPlainString());
+            }
+            assertSameAsParseDouble(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20))));
+        }
+    }
+
+    @Test
+    void matchesParseDoubleOnEdgeCases() {
+        for (String literal : List.of("0", "0.0", "000", "0.", ".0", "9007199254740992", "9007199254740993",
+                "18446744073709551615", "9999999999999999999", "0.1", "0.3", "1.7976931348623157",
+                "123456789012345678.9", "2.2250738585072014", "4.9")) {
+            assertSameAsParseDouble(literal);
+        }
+    }
+
+    @Test
+    void rejectsMalformedLiterals() {
+        for (String literal : List.of("", ".", "..", "1..2", "1.2.3", "-", "abc", "1a", "1e", "+")) {
+            assertThrows(NumberFormatException.class, () -> Double.parseDouble(literal), literal);
+            assertThrows(NumberFormatException.class, () -> NumberParser.parse(literal), literal);
+            assertThrows(NumberFormatException.class,
+                    () -> NumberParser.parse("(" + literal + ")", 1, literal.length() + 1), literal);
+        }
+    }
+
+    // ===== Private Helpers =====
+
+    private static void assertSameAsParseDouble(String literal) {
+        assertEquals(expected(literal), actual("(" + literal + ")", 1, literal.length() + 1),
+                () -> "Literal: " + literal);
+    }
+
+    private static String expected(String literal) {
+        try {
+            return Long.toHexString(Double.doubleToRawLongBits(Double.parseDouble(literal)));
+        } catch (NumberFormatException e) {
+            return "NumberFormatException";
+        }
+    }
+
+    private static String actual(String source, int start, int end) {
+        try {
+            return Long.toHexString(Double.doubleToRawLongBits(NumberParser.parse(source, start, end)));
+        } catch (NumberFormatException e) {
+            return "NumberFormatException";
+        }
+    }
+}
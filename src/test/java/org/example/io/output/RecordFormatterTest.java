@@ -0,0 +1,91 @@
+package org.example.io.output;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Property test: {@link RecordFormatter} must produce exactly the text of
+ * {@code String.format(locale, pattern, prefix, value, expression)}.
+ */
+class RecordFormatterTest {
+
+    private static final long SEED = 19L;
+    private static final int CASES = 30_000;
+    private static final String PREFIX = "Result: ";
+    private static final String EXPRESSION = "1 + 2 * x";
+
+    private static final List<String> PATTERNS = List.of(
+            "%s%.2f", "%s%s = %s", "%s%f (%s)%n", "[%s] %.0f %% %s", "%s%.9f", "%s%.12f",
+            "%s%10.3f %s", "%2$s %1$s", "%s%,.2f", "no arguments", "100%% %s%.1f");
+
+    private static final List<Locale> LOCALES = List.of(
+            Locale.ROOT, Locale.US, Locale.GERMANY, Locale.forLanguageTag("ar-EG"));
+
+    private static final double[] SPECIAL_VALUES = {
+            0.0, -0.0, 0.5, -0.5, 1.5, 2.5, 0.125, 0.005, 1.005, -0.001, 9.995, 0.045,
+            Double.MIN_VALUE, Double.MAX_VALUE, 0x1p50, 0x1p53 + 1, 1e15 + 0.5,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN
+    };
+
+    @Test
+    void matchesStringFormatOnSpecialValues() {
+        for (String pattern : PATTERNS) {
+            for (Locale locale : LOCALES) {
+                RecordFormatter formatter = new RecordFormatter(pattern, PREFIX, locale);
+                for (double value : SPECIAL_VALUES) {
+                    assertSameAsStringFormat(formatter, pattern, locale, value);
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesStringFormatOnRandomFixedPoint() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            int precision = random.nextInt(11);
+            String pattern = "%s%." + precision + "f = %s";
+            RecordFormatter formatter = new RecordFormatter(pattern, PREFIX, Locale.ROOT);
+            assertSameAsStringFormat(formatter, pattern, Locale.ROOT, randomValue(random, precision));
+        }
+    }
+
+    @Test
+    void formatToAppendsToCallerBuffer() {
+        RecordFormatter formatter = new RecordFormatter("%s%.3f", PREFIX, Locale.ROOT);
+        StringBuilder out = new StringBuilder("> ");
+
+        formatter.formatTo(out, 2.0 / 3, EXPRESSION);
+
+        assertEquals("> Result: 0.667", out.toString());
+    }
+
+    // ===== Private Helpers =====
+
+    /**
+     * Mostly values whose scaled fraction sits on or next to {@code .5}, where the fast
+     * path has to decide the rounding direction or give up.
+     */
+    private static double randomValue(Random random, int precision) {
+        double sign = random.nextBoolean() ? 1 : -1;
+        return switch (random.nextInt(4)) {
+            case 0 -> sign * (random.nextInt(100_000) + 0.5) / Math.pow(10, precision);
+            case 1 -> sign * Math.nextAfter((random.nextInt(1000) + 0.5) / Math.pow(10, precision),
+                    random.nextBoolean() ? 0 : Double.POSITIVE_INFINITY);
+            case 2 -> sign * random.nextDouble() * Math.pow(10, random.nextInt(20) - 5);
+            default -> Double.longBitsToDouble(random.nextLong());
+        };
+    }
+
+    private static void assertSameAsStringFormat(RecordFormatter formatter, String pattern, Locale locale,
+                                                 double value) {
+        String expected = String.format(locale, pattern, PREFIX, value, EXPRESSION);
+        assertEquals(expected, formatter.format(value, EXPRESSION),
+                () -> pattern + " in " + locale + " for " + value);
+    }
+}
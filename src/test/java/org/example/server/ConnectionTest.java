@@ -0,0 +1,192 @@
+package org.example.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Drives a {@link Connection} over a loopback socket with a stub responder.
+ */
+class ConnectionTest {
+
+    private static final int BUFFER_SIZE = 256;
+    private static final int TIMEOUT_MILLIS = 5_000;
+    private static final int PIPELINED = 20_000;
+    private static final long SEED = 22L;
+
+    private final List<Socket> clients = new ArrayList<>();
+    private ServerSocketChannel acceptor;
+    private EventLoop loop;
+    private Thread loopThread;
+    private ExecutorService workers;
+
+    @BeforeEach
+    void start() throws IOException {
+        acceptor = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        loop = new EventLoop();
+        loopThread = Thread.ofPlatform().start(loop);
+        workers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        for (Socket client : clients) {
+            client.close();
+        }
+        acceptor.close();
+        loop.shutdown();
+        loopThread.join();
+        workers.close();
+    }
+
+    @Test
+    void errorInResponderStillAnswersEveryLine() throws IOException {
+        Socket client = connect(lines -> {
+            throw new AssertionError("boom");
+        });
+
+        send(client, "1\n2\n");
+
+        BufferedReader in = reader(client);
+        assertEquals("[UNEXPECTED] boom", in.readLine());
+        assertEquals("[UNEXPECTED] boom", in.readLine());
+    }
+
+    @Test
+    void errorInOneBatchDoesNotStallLaterBatches() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+        Socket client = connect(lines -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new StackOverflowError("deep");
+            }
+            return echo(lines);
+        });
+        BufferedReader in = reader(client);
+
+        send(client, "1\n");
+        assertEquals("[UNEXPECTED] deep", in.readLine());
+
+        send(client, "2\n3\n");
+        client.shutdownOutput();
+        assertEquals("2", in.readLine());
+        assertEquals("3", in.readLine());
+        assertNull(in.readLine());
+    }
+
+    @Test
+    void pipelinedResponsesKeepRequestOrder() throws IOException {
+        Random random = new Random(SEED);
+        Socket client = connect(lines -> {
+            // Uneven batch latency: later batches often finish first without the chain.
+            sleep(random.nextInt(3));
+            return echo(lines);
+        });
+
+        StringBuilder requests = new StringBuilder();
+        for (int i = 0; i < PIPELINED; i++) {
+            requests.append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        send(client, requests.toString());
+        client.shutdownOutput();
+
+        BufferedReader in = reader(client);
+        for (int i = 0; i < PIPELINED; i++) {
+            assertEquals(Integer.toString(i), in.readLine());
+        }
+        assertNull(in.readLine());
+    }
+
+    @Test
+    void lastLineWithoutBreakIsAnsweredOnHalfClose() throws IOException {
+        Socket client = connect(ConnectionTest::echo);
+
+        send(client, "1\n2");
+        client.shutdownOutput();
+
+        BufferedReader in = reader(client);
+        assertEquals("1", in.readLine());
+        assertEquals("2", in.readLine());
+        assertNull(in.readLine());
+    }
+
+    @Test
+    void emptyInputClosesWithoutAnswer() throws IOException {
+        Socket client = connect(ConnectionTest::echo);
+
+        client.shutdownOutput();
+
+        assertNull(reader(client).readLine());
+    }
+
+    @Test
+    void oversizedLineIsRejectedAfterEarlierAnswers() throws IOException {
+        Socket client = connect(ConnectionTest::echo);
+
+        send(client, "1\n");
+        BufferedReader in = reader(client);
+        assertEquals("1", in.readLine());
+
+        send(client, "x".repeat(BUFFER_SIZE + 1) + "\n2\n");
+        assertEquals("Line too long", in.readLine());
+        assertNull(in.readLine());
+    }
+
+    // ===== Private Helpers =====
+
+    private Socket connect(Function<List<String>, String> responder) throws IOException {
+        Socket client = new Socket();
+        clients.add(client);
+        client.setSoTimeout(TIMEOUT_MILLIS);
+        client.connect(acceptor.getLocalAddress());
+
+        SocketChannel channel = acceptor.accept();
+        Connection connection = new Connection(channel, loop, new BufferPool(BUFFER_SIZE, 2), workers, responder);
+        loop.execute(connection::register);
+        return client;
+    }
+
+    private static String echo(List<String> lines) {
+        StringBuilder out = new StringBuilder();
+        for (String line : lines) {
+            out.append(line).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(Socket client, String text) throws IOException {
+        client.getOutputStream().write(text.getBytes(StandardCharsets.UTF_8));
+        client.getOutputStream().flush();
+    }
+
+    private static BufferedReader reader(Socket client) throws IOException {
+        return new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.server;
+
+import org.example.core.evaluation.CalculatorEngine;
+import org.example.core.evaluation.RpnEvaluationAlgorithm;
+import org.example.core.lexer.TableLexer;
+import org.example.core.parser.DefaultRpnParser;
+import org.example.core.parser.InfixExpressionParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpEvaluationServerTest {
+
+    private static final int MAX_EXPRESSION_BYTES = 64 * 1024;
+    private static final String TOO_LONG = "Expression exceeds " + MAX_EXPRESSION_BYTES + " bytes";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private HttpEvaluationServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        CalculatorEngine engine = new CalculatorEngine(
+                new InfixExpressionParser(new TableLexer()), new DefaultRpnParser(), new RpnEvaluationAlgorithm());
+        server = new HttpEvaluationServer(engine, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void batchAnswersEveryLineInOrder() throws Exception {
+        List<String> lines = batch("1+2\n\n3*4\r\n(1\n5");
+
+        assertEquals(5, lines.size());
+        assertEquals(List.of("3.0", "", "12.0"), lines.subList(0, 3));
+        assertTrue(lines.get(3).startsWith("Invalid expression: "), lines.get(3));
+        assertEquals("5.0", lines.get(4));
+    }
+
+    @Test
+    void batchRejectsLinesOverTheLimitAndCarriesOn() throws Exception {
+        String atLimit = "1+".repeat(MAX_EXPRESSION_BYTES / 2 - 1) + "1 ";
+        String overLimit = atLimit + "+1";
+        // Fewer characters than the limit, but two UTF-8 bytes each.
+        String multiByte = "é".repeat(MAX_EXPRESSION_BYTES / 2 + 1);
+
+        List<String> lines = batch("1\n" + overLimit + "\n" + multiByte + "\r\n" + atLimit + "\n2");
+
+        assertEquals(List.of("1.0", TOO_LONG, TOO_LONG, Double.toString(MAX_EXPRESSION_BYTES / 2), "2.0"), lines);
+    }
+
+    // ===== Private Helpers =====
+
+    private List<String> batch(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/evaluate/batch"))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        return response.body().lines().toList();
+    }
+
+    private URI uri(String path) {
+        InetSocketAddress address = server.address();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort() + path);
+    }
+}